@@ -0,0 +1,171 @@
+package com.wjc.codetest.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ListLoadBenchmark
+ *
+ * [목록 조회 위주 부하에서 servlet(thread-per-request) vs reactive(event-loop) 비교]
+ *
+ * - 각 variant 를 별도 프로세스로 기동 (servlet : bootJar, reactive : reactiveBootJar)
+ *   · servlet        : CodeTestApplication (startup 프로파일, Tomcat 기본 200 threads, 목록 캐시 비활성)
+ *   · servlet-cached : servlet + ProductListCache (앞쪽 페이지 캐시 hit 포함, reactive 와 직접 비교 대상 아님)
+ *   · reactive       : ReactiveCodeTestApplication (Netty, event-loop = CPU 코어 수)
+ *   · reactive-4loop : reactive + reactor.netty.ioWorkerCount=4
+ *   · reactive variant 는 Netty 가 아니면 기동에 실패하므로(ReactiveCodeTestApplication)
+ *     Tomcat 위의 WebFlux 를 잘못 측정하지 않음
+ * - 동일한 상품 데이터를 POST 로 적재한 뒤 closed-loop 으로 동시 요청 수를 고정하고
+ *   GET /products?category=&page=&size=50 의 처리량과 지연 시간(p50/p99)을 측정
+ *
+ * 실행: gradle listLoadBenchmark [-Pbench.concurrency=64] [-Pbench.seconds=20]
+ */
+public class ListLoadBenchmark {
+
+    private static final int PRODUCTS = 5_000;
+    private static final int CATEGORIES = 20;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_SECONDS = 5;
+
+    private record Variant(String name, List<String> jvmArgs, List<String> launchArgs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path bootJar = Path.of(System.getProperty("bench.bootJar"));
+        Path reactiveBootJar = Path.of(System.getProperty("bench.reactiveBootJar"));
+        int concurrency = Integer.parseInt(System.getProperty("bench.concurrency", "64"));
+        int seconds = Integer.parseInt(System.getProperty("bench.seconds", "20"));
+
+        List<String> servletLaunch = List.of("-jar", bootJar.toString());
+        List<String> reactiveLaunch = List.of("-jar", reactiveBootJar.toString());
+
+        List<Variant> variants = List.of(
+                new Variant("servlet",
+                        List.of("-Dspring.profiles.active=startup", "-Dproduct.list-cache.max-bytes=0"),
+                        servletLaunch),
+                new Variant("servlet-cached",
+                        List.of("-Dspring.profiles.active=startup"),
+                        servletLaunch),
+                new Variant("reactive",
+                        List.of(),
+                        reactiveLaunch),
+                new Variant("reactive-4loop",
+                        List.of("-Dreactor.netty.ioWorkerCount=4"),
+                        reactiveLaunch)
+        );
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+
+        System.out.printf("concurrency=%d, duration=%ds, products=%d, pageSize=%d%n%n",
+                concurrency, seconds, PRODUCTS, PAGE_SIZE);
+        System.out.printf("%-15s %12s %10s %10s %8s%n", "variant", "req/s", "p50(ms)", "p99(ms)", "errors");
+
+        for (Variant variant : variants) {
+            int port = BenchProcesses.freePort();
+            Process process = BenchProcesses.start(
+                    bootJar.getParent(), variant.jvmArgs(), variant.launchArgs(), port);
+            try {
+                BenchProcesses.awaitOk(process, client, port, "/products/categories", Duration.ofSeconds(60));
+                seed(client, port);
+
+                run(client, port, concurrency, WARMUP_SECONDS);
+                Result result = run(client, port, concurrency, seconds);
+
+                System.out.printf("%-15s %12.1f %10.2f %10.2f %8d%n",
+                        variant.name(), result.throughput(), result.p50(), result.p99(), result.errors());
+            } finally {
+                BenchProcesses.stop(process);
+            }
+        }
+    }
+
+    private record Result(double throughput, double p50, double p99, long errors) {
+    }
+
+    private static void seed(HttpClient client, int port) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(16);
+        for (int i = 0; i < PRODUCTS; i++) {
+            String body = "{\"category\":\"category-" + (i % CATEGORIES) + "\",\"name\":\"product-" + i + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            inFlight.acquire();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> inFlight.release());
+        }
+        inFlight.acquire(16);
+    }
+
+    /**
+     * closed-loop: 각 가상 사용자가 응답을 받는 즉시 다음 요청을 전송
+     */
+    private static Result run(HttpClient client, int port, int concurrency, int seconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        CompletableFuture<?>[] users = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            users[i] = loop(client, port, deadline, latencies, errors);
+        }
+        CompletableFuture.allOf(users).join();
+
+        long[] samples = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (samples.length == 0) {
+            return new Result(0, 0, 0, errors.get());
+        }
+        return new Result(
+                samples.length / (double) seconds,
+                samples[samples.length / 2] / 1_000_000.0,
+                samples[Math.min(samples.length - 1, samples.length * 99 / 100)] / 1_000_000.0,
+                errors.get()
+        );
+    }
+
+    private static CompletableFuture<Void> loop(
+            HttpClient client,
+            int port,
+            long deadline,
+            ConcurrentLinkedQueue<Long> latencies,
+            AtomicLong errors
+    ) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pages = PRODUCTS / CATEGORIES / PAGE_SIZE;
+        URI uri = URI.create("http://localhost:" + port + "/products"
+                + "?category=category-" + random.nextInt(CATEGORIES)
+                + "&page=" + random.nextInt(Math.max(1, pages))
+                + "&size=" + PAGE_SIZE);
+
+        long start = System.nanoTime();
+        return client.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, port, deadline, latencies, errors));
+    }
+}
@@ -0,0 +1,204 @@
+package com.wjc.codetest.bench;
+
+import com.wjc.codetest.CodeTestApplication;
+import com.wjc.codetest.product.exception.UnsupportedProductQueryException;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductSort;
+import com.wjc.codetest.product.service.ProductQueryService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductListQueryBenchmark
+ *
+ * [목록 조회 정렬/필터 조합별 실행 계획 및 응답 시간 측정]
+ *
+ * - 애플리케이션 컨텍스트(startup 프로파일, 웹 서버 없음)를 그대로 띄우고
+ *   ProductQueryService.getList → ProductFieldRepositoryImpl.findFieldsPage 경로로 조회
+ * - 조합(shape)은 ProductSort 전체 x (category 유무) x (id 범위 유무)
+ *   · guard 에서 거절되는 조합은 UnsupportedProductQueryException 으로 확인 후 "rejected" 로 출력
+ * - Hibernate 가 실제로 생성한 SQL(StatementInspector 로 수집)을 그대로 EXPLAIN
+ * - 조합별 getList 지연 시간(page + 필요 시 count) p50/p99 출력
+ *
+ * 실행: gradle listQueryBenchmark [-Pbench.rows=10000000]
+ */
+public class ProductListQueryBenchmark {
+
+    private static final int CATEGORIES = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int RANGE = 100_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private record Shape(ProductSort sort, boolean category, boolean range) {
+
+        String name() {
+            return (category ? "category" : "all") + (range ? " + id range" : "") + " / " + sort;
+        }
+    }
+
+    /* Hibernate 가 실행한 SQL 수집 (EXPLAIN 대상) */
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.parseLong(System.getProperty("bench.rows", "10000000"));
+
+        StatementInspector capture = sql -> {
+            CAPTURED.add(sql);
+            return sql;
+        };
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("startup")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:listbench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN"
+                )
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("sqlCapture",
+                        (HibernatePropertiesCustomizer) properties ->
+                                properties.put(AvailableSettings.STATEMENT_INSPECTOR, capture)))
+                .run()) {
+
+            DataSource dataSource = context.getBean(DataSource.class);
+            ProductQueryService productQueryService = context.getBean(ProductQueryService.class);
+            load(new JdbcTemplate(dataSource), rows);
+
+            System.out.printf("rows=%d, categories=%d, pageSize=%d%n%n", rows, CATEGORIES, PAGE_SIZE);
+            for (Shape shape : shapes()) {
+                run(productQueryService, dataSource, shape, rows);
+            }
+        }
+    }
+
+    private static List<Shape> shapes() {
+        List<Shape> shapes = new ArrayList<>();
+        for (ProductSort sort : ProductSort.values()) {
+            for (boolean category : new boolean[]{false, true}) {
+                for (boolean range : new boolean[]{false, true}) {
+                    shapes.add(new Shape(sort, category, range));
+                }
+            }
+        }
+        return shapes;
+    }
+
+    private static void load(JdbcTemplate jdbcTemplate, long rows) {
+        long start = System.nanoTime();
+        jdbcTemplate.update(
+                "INSERT INTO product (category, name) "
+                        + "SELECT 'category-' || MOD(X, ?), 'product-' || MOD(X * 7919, ?) "
+                        + "FROM SYSTEM_RANGE(1, ?)",
+                CATEGORIES, rows, rows);
+        jdbcTemplate.execute("ANALYZE");
+        System.out.printf("loaded %d rows in %d ms%n", rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void run(ProductQueryService productQueryService, DataSource dataSource, Shape shape, long rows)
+            throws SQLException {
+        System.out.println("[" + shape.name() + "]");
+
+        // page 1 요청: OFFSET / FETCH 파라미터가 모두 포함된 SQL 을 수집 (count 는 전체 건수가 page 크기를 넘으므로 항상 실행)
+        GetProductListRequest sample = request(shape, rows, 1);
+        CAPTURED.clear();
+        try {
+            productQueryService.getList(sample);
+        } catch (UnsupportedProductQueryException e) {
+            System.out.println("rejected by guard (PRODUCT-002)");
+            System.out.println();
+            return;
+        }
+        for (String sql : List.copyOf(CAPTURED)) {
+            explain(dataSource, sql, sample);
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            GetProductListRequest request = request(shape, rows, ThreadLocalRandom.current().nextInt(10));
+
+            long start = System.nanoTime();
+            productQueryService.getList(request);
+            long elapsed = System.nanoTime() - start;
+
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = elapsed;
+            }
+        }
+        CAPTURED.clear();
+
+        System.out.printf("getList p50=%.3f ms  p99=%.3f ms%n%n", percentile(nanos, 50), percentile(nanos, 99));
+    }
+
+    private static GetProductListRequest request(Shape shape, long rows, int page) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        GetProductListRequest request = new GetProductListRequest();
+        request.setSort(shape.sort());
+        request.setPage(page);
+        request.setSize(PAGE_SIZE);
+        if (shape.category()) {
+            request.setCategory("category-" + random.nextInt(CATEGORIES));
+        }
+        if (shape.range()) {
+            long minId = 1 + random.nextLong(Math.max(1, rows - RANGE));
+            request.setMinId(minId);
+            request.setMaxId(minId + RANGE);
+        }
+        return request;
+    }
+
+    /**
+     * 수집한 SQL 을 EXPLAIN
+     * - 조건 파라미터는 findFieldsPage 의 조건 순서(category, minId, maxId)대로 바인딩
+     * - 나머지(OFFSET / FETCH)는 page 1 요청이므로 모두 PAGE_SIZE 로 바인딩 (순서 무관)
+     */
+    private static void explain(DataSource dataSource, String sql, GetProductListRequest request) throws SQLException {
+        List<Object> params = new ArrayList<>();
+        if (request.hasCategory()) {
+            params.add(request.getCategory());
+        }
+        if (request.getMinId() != null) {
+            params.add(request.getMinId());
+        }
+        if (request.getMaxId() != null) {
+            params.add(request.getMaxId());
+        }
+
+        System.out.println("sql  : " + sql);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            int count = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= count; i++) {
+                explain.setObject(i, i <= params.size() ? params.get(i - 1) : PAGE_SIZE);
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                System.out.println("plan : " + rs.getString(1).replaceAll("\\s+", " "));
+            }
+        }
+    }
+
+    private static double percentile(long[] samples, int percentile) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, sorted.length * percentile / 100);
+        return sorted[index] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.wjc.codetest.bench;
+
+import com.wjc.codetest.product.snapshot.ProductSnapshotFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * SnapshotRestartBenchmark
+ *
+ * [카탈로그 크기별 스냅샷 기반 재시작 시간 측정]
+ *
+ * - 크기별로 스냅샷 파일을 직접 생성한 뒤 startup,snapshot 프로파일로 기동
+ * - restart  : 프로세스 시작 ~ GET /products/categories 200 (복원 완료 후에만 요청 수신)
+ * - shutdown : SIGTERM ~ 프로세스 종료 (종료 시 스냅샷 저장 포함)
+ * - 복원된 건수는 GET /products?size=1 의 totalElements 로 확인
+ *
+ * 실행: gradle snapshotRestartBenchmark [-Pbench.sizes=0,100000,1000000,5000000]
+ */
+public class SnapshotRestartBenchmark {
+
+    private static final int CATEGORIES = 100;
+    private static final Pattern TOTAL_ELEMENTS = Pattern.compile("\"totalElements\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        Path bootJar = Path.of(System.getProperty("bench.bootJar"));
+        long[] sizes = Arrays.stream(System.getProperty("bench.sizes", "0,100000,1000000,5000000").split(","))
+                .mapToLong(size -> Long.parseLong(size.trim()))
+                .toArray();
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+        Path workDir = Files.createTempDirectory("snapshot-bench");
+
+        System.out.printf("%12s %12s %12s %12s %12s%n", "rows", "file(MB)", "restored", "restart(ms)", "shutdown(ms)");
+        try {
+            for (long size : sizes) {
+                Path snapshot = workDir.resolve("product-" + size + ".snapshot");
+                ProductSnapshotFile.Summary summary = writeSnapshot(snapshot, size);
+
+                int port = BenchProcesses.freePort();
+                List<String> jvmArgs = List.of(
+                        "-Xmx4g",
+                        "-Dspring.profiles.active=startup,snapshot",
+                        "-Dproduct.snapshot.path=" + snapshot,
+                        "-Dproduct.snapshot.interval=0"
+                );
+
+                long start = System.nanoTime();
+                Process process = BenchProcesses.start(bootJar.getParent(), jvmArgs, List.of("-jar", bootJar.toString()), port);
+                long restartMillis;
+                long restored;
+                try {
+                    BenchProcesses.awaitOk(process, client, port, "/products/categories", Duration.ofMinutes(5));
+                    restartMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    restored = totalElements(client, port);
+                } catch (Exception e) {
+                    BenchProcesses.stop(process);
+                    throw e;
+                }
+
+                long stopStart = System.nanoTime();
+                process.destroy();
+                process.waitFor(5, TimeUnit.MINUTES);
+                long shutdownMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stopStart);
+
+                System.out.printf("%12d %12.1f %12d %12d %12d%n",
+                        size, summary.bytes() / (1024.0 * 1024.0), restored, restartMillis, shutdownMillis);
+                Files.deleteIfExists(snapshot);
+            }
+        } finally {
+            deleteRecursively(workDir);
+        }
+    }
+
+    private static ProductSnapshotFile.Summary writeSnapshot(Path path, long rows) throws Exception {
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            for (long id = 1; id <= rows; id++) {
+                writer.write(id, "category-" + (id % CATEGORIES), "product-" + id);
+            }
+            return writer.commit();
+        }
+    }
+
+    /* 크기별 스냅샷(기본 설정 기준 수백 MB)을 임시 디렉토리에 남기지 않음 */
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static long totalElements(HttpClient client, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products?size=1"))
+                .GET()
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+
+        Matcher matcher = TOTAL_ELEMENTS.matcher(body);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
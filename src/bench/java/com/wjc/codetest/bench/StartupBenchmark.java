@@ -0,0 +1,81 @@
+package com.wjc.codetest.bench;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupBenchmark
+ *
+ * [기동 방식별 첫 정상 응답까지의 시간(time-to-first-successful-request) 측정]
+ *
+ * - baseline : 기본 프로파일 (ddl-auto=create-drop)
+ * - startup  : startup 프로파일 (버전 관리 스키마 스크립트, deferred JPA bootstrap)
+ * - aot      : startup + Spring AOT 처리 결과 사용
+ * - aot+cds  : aot + AppCDS 아카이브 (gradle trainCds)
+ *   · -Xshare:on 으로 실행하여 아카이브를 사용할 수 없으면(jar 불일치 등) 경고 후 무시하지 않고 기동 실패
+ *
+ * 프로세스 시작 직전부터 GET /products/categories 가 200을 반환할 때까지를 측정한다.
+ *
+ * 실행: gradle startupBenchmark [-Pbench.runs=5]
+ */
+public class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private record Variant(String name, Path workingDir, List<String> jvmArgs, String jar) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path bootJar = Path.of(System.getProperty("bench.bootJar"));
+        Path cdsDir = Path.of(System.getProperty("bench.cdsDir"));
+        Path cdsArchive = Path.of(System.getProperty("bench.cdsArchive"));
+        int runs = Integer.parseInt(System.getProperty("bench.runs", "5"));
+
+        List<Variant> variants = List.of(
+                new Variant("baseline", bootJar.getParent(),
+                        List.of(), bootJar.toString()),
+                new Variant("startup", bootJar.getParent(),
+                        List.of("-Dspring.profiles.active=startup"), bootJar.toString()),
+                new Variant("aot", bootJar.getParent(),
+                        List.of("-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true"),
+                        bootJar.toString()),
+                new Variant("aot+cds", cdsDir,
+                        List.of("-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true",
+                                "-XX:SharedArchiveFile=" + cdsArchive, "-Xshare:on"),
+                        "app.jar")
+        );
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+
+        System.out.printf("%-10s %10s %10s %10s%n", "variant", "min(ms)", "median(ms)", "max(ms)");
+        for (Variant variant : variants) {
+            long[] samples = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                samples[i] = measure(variant, client);
+            }
+            Arrays.sort(samples);
+            System.out.printf("%-10s %10d %10d %10d%n",
+                    variant.name(), samples[0], samples[runs / 2], samples[runs - 1]);
+        }
+    }
+
+    private static long measure(Variant variant, HttpClient client) throws Exception {
+        int port = BenchProcesses.freePort();
+
+        long start = System.nanoTime();
+        Process process = BenchProcesses.start(
+                variant.workingDir(), variant.jvmArgs(), List.of("-jar", variant.jar()), port);
+        try {
+            BenchProcesses.awaitOk(process, client, port, "/products/categories", TIMEOUT);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            BenchProcesses.stop(process);
+        }
+    }
+}
@@ -11,4 +11,13 @@ public abstract class BusinessException extends RuntimeException {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
     }
+
+    /**
+     * 스택 트레이스가 의미 없는 빈번한 예외(예: 404)용 생성자
+     * - writableStackTrace=false 이면 fillInStackTrace 비용이 발생하지 않음
+     */
+    protected BusinessException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
 }
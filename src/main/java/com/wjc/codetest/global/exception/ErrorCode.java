@@ -14,6 +14,7 @@ public enum ErrorCode {
     // 400
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "COMMON-001", "잘못된 요청입니다."),
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "COMMON-002", "요청 값 검증에 실패했습니다."),
+    UNSUPPORTED_PRODUCT_QUERY(HttpStatus.BAD_REQUEST, "PRODUCT-002", "지원하지 않는 정렬/필터 조합입니다."),
 
     // 404
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT-001", "상품을 찾을 수 없습니다."),
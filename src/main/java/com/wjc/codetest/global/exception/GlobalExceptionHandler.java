@@ -9,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +28,9 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /* 타입 변환 실패 메시지 - Spring 기본 메시지(내부 클래스명 포함)를 노출하지 않음 (ReactiveGlobalExceptionHandler 공용) */
+    public static final String INVALID_VALUE_MESSAGE = "잘못된 값입니다.";
+
     /**
      * 비즈니스 예외 처리 (ErrorCode 보유)
      */
@@ -42,7 +46,9 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * RequestBody Validation 실패 (400 Bad Request)
+     * RequestBody / ModelAttribute Validation 실패 (400 Bad Request)
+     * - ModelAttribute 의 타입 변환 실패(typeMismatch, 예: 알 수 없는 fields 값)는
+     *   RequestParam 과 같은 메시지로 응답
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleMethodArgumentNotValid(
@@ -53,7 +59,7 @@ public class GlobalExceptionHandler {
                 .stream()
                 .collect(Collectors.toMap(
                         FieldError::getField,
-                        FieldError::getDefaultMessage,
+                        GlobalExceptionHandler::messageOf,
                         (a, b) -> a
                 ));
 
@@ -86,6 +92,29 @@ public class GlobalExceptionHandler {
                 .body(ApiErrorResponse.of(errorCode, errors));
     }
 
+    /**
+     * RequestParam / PathVariable 타입 변환 실패 (예: 알 수 없는 fields 값)
+     * - ModelAttribute 의 타입 변환 실패(목록 / 다건 조회)와 같은 VALIDATION_ERROR 로 응답
+     *   (같은 잘못된 값에 엔드포인트마다 다른 에러 코드가 나가지 않도록)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleMethodArgumentTypeMismatch(
+            MethodArgumentTypeMismatchException e
+    ) {
+        ErrorCode errorCode = ErrorCode.VALIDATION_ERROR;
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiErrorResponse.of(errorCode, Map.of(e.getName(), INVALID_VALUE_MESSAGE)));
+    }
+
+    /**
+     * 필드 에러 메시지 (ReactiveGlobalExceptionHandler 공용)
+     */
+    public static String messageOf(FieldError error) {
+        return error.isBindingFailure() ? INVALID_VALUE_MESSAGE : String.valueOf(error.getDefaultMessage());
+    }
+
     /**
      * 예상하지 못한 예외 (500)
      */
@@ -1,20 +1,26 @@
 package com.wjc.codetest.product.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wjc.codetest.global.response.ApiResponse;
-import com.wjc.codetest.product.model.domain.Product;
 import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductBatchRequest;
 import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductFields;
 import com.wjc.codetest.product.model.request.UpdateProductRequest;
 import com.wjc.codetest.product.model.response.ProductListResponse;
 import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.service.ProductListCache;
 import com.wjc.codetest.product.service.ProductQueryService;
 import com.wjc.codetest.product.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -46,16 +52,36 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductQueryService productQueryService;
+    private final ProductListCache productListCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * 상품 단건 조회
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
+            @PathVariable Long id,
+            @RequestParam(required = false) ProductFields fields
+    ) {
         return ResponseEntity.ok(
                 ApiResponse.success(
                         "상품 조회 성공",
-                        new ProductResponse(productQueryService.getById(id))
+                        productQueryService.getById(id, fields != null ? fields : ProductFields.ALL)
+                )
+        );
+    }
+
+    /**
+     * 상품 다건 조회
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getProducts(
+            @Valid @ModelAttribute GetProductBatchRequest request
+    ) {
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        "상품 다건 조회 성공",
+                        productQueryService.getAllByIds(request.getIds(), request.getFields())
                 )
         );
     }
@@ -102,23 +128,35 @@ public class ProductController {
 
     /**
      * 상품 목록 조회
+     *
+     * - 앞쪽 페이지는 직렬화된 응답(byte[])을 ProductListCache 에서 바로 반환
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductListByCategory(
+    public ResponseEntity<byte[]> getProductListByCategory(
             @Valid @ModelAttribute GetProductListRequest request
     ) {
-        Page<Product> page = productQueryService.getListByCategory(
-                request.getCategory(),
-                request.getPage(),
-                request.getSize()
-        );
+        byte[] body = productListCache.isCacheable(request)
+                ? productListCache.getOrLoad(ProductListCache.Key.of(request), () -> loadProductList(request))
+                : loadProductList(request);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(
-                        "상품 목록 조회 성공",
-                        new ProductListResponse(page)
-                )
-        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private byte[] loadProductList(GetProductListRequest request) {
+        Page<ProductResponse> page = productQueryService.getList(request);
+
+        try {
+            return objectMapper.writeValueAsBytes(
+                    ApiResponse.success(
+                            "상품 목록 조회 성공",
+                            ProductListResponse.ofResponses(page)
+                    )
+            );
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -8,10 +8,13 @@ import com.wjc.codetest.global.exception.ErrorCode;
  *
  * - Product 도메인 조회 실패 시 발생하는 예외
  * - Service 계층에서 발생시켜 Controller까지 전파
+ * - 존재하지 않는 id 조회가 빈번하므로 스택 트레이스 없이 미리 생성한 단일 인스턴스(INSTANCE)를 재사용
  */
 public class ProductNotFoundException extends BusinessException {
 
-    public ProductNotFoundException() {
-        super(ErrorCode.PRODUCT_NOT_FOUND);
+    public static final ProductNotFoundException INSTANCE = new ProductNotFoundException();
+
+    private ProductNotFoundException() {
+        super(ErrorCode.PRODUCT_NOT_FOUND, false);
     }
 }
@@ -0,0 +1,17 @@
+package com.wjc.codetest.product.exception;
+
+import com.wjc.codetest.global.exception.BusinessException;
+import com.wjc.codetest.global.exception.ErrorCode;
+
+/**
+ * UnsupportedProductQueryException
+ *
+ * - 인덱스로 처리할 수 없는 정렬/필터 조합의 목록 조회 요청 시 발생
+ * - filesort / full scan 으로 처리하지 않고 400으로 거절
+ */
+public class UnsupportedProductQueryException extends BusinessException {
+
+    public UnsupportedProductQueryException() {
+        super(ErrorCode.UNSUPPORTED_PRODUCT_QUERY);
+    }
+}
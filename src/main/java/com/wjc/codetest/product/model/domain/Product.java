@@ -26,14 +26,21 @@ import java.util.Objects;
  * 4. 검증 (생략)
  * - 컴파일 단계에서 setter 사용 불가 확인
  * - 변경 로직이 명시적인 메서드 호출로만 발생함을 코드 레벨에서 확인
+ *
+ * 5. 인덱스 (목록 조회 정렬/필터 조합별, ProductQueryService 참고)
+ * - (category, id)       : 카테고리 필터 + id 정렬/범위
+ * - (category, name, id) : 카테고리 필터 + 이름 정렬
+ * - (name, id)           : 전체 대상 이름 정렬
+ * - 기존 (category) 단일 인덱스는 (category, id)의 선두 컬럼과 중복되어 제거
  */
-
 @Entity
 @Getter
 @Table(
         name = "product",
         indexes = {
-                @Index(name = "idx_product_category", columnList = "category")
+                @Index(name = "idx_product_category_id", columnList = "category, id"),
+                @Index(name = "idx_product_category_name", columnList = "category, name, id"),
+                @Index(name = "idx_product_name", columnList = "name, id")
         }
 )
 public class Product {
@@ -0,0 +1,29 @@
+package com.wjc.codetest.product.model.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * GetProductBatchRequest
+ *
+ * [상품 다건 조회 요청 (?ids=1,2,3&fields=id,name)]
+ */
+@Getter
+@Setter
+public class GetProductBatchRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<Long> ids;
+
+    /* 응답 필드 선택 (?fields=id,name) */
+    private ProductFields fields = ProductFields.ALL;
+
+    public ProductFields getFields() {
+        return fields != null ? fields : ProductFields.ALL;
+    }
+}
@@ -1,7 +1,9 @@
 package com.wjc.codetest.product.model.request;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,12 +11,49 @@ import lombok.Setter;
 @Setter
 public class GetProductListRequest {
 
+    static final int MAX_SIZE = 100;
+
+    /* offset(page * size)이 JPA setFirstResult(int) 범위를 넘지 않는 최대 page */
+    static final int MAX_PAGE = Integer.MAX_VALUE / MAX_SIZE - 1;
+
     private String category;
 
+    /* id 범위 필터 (양 끝 포함, 한쪽만 지정 가능) */
+    @Min(1)
+    private Long minId;
+
+    @Min(1)
+    private Long maxId;
+
+    @NotNull
+    private ProductSort sort = ProductSort.ID_DESC;
+
     @Min(0)
+    @Max(MAX_PAGE)
     private int page = 0;
 
     @Min(1)
-    @Max(100)
+    @Max(MAX_SIZE)
     private int size = 10;
+
+    /* 응답 필드 선택 (?fields=id,name) */
+    private ProductFields fields = ProductFields.ALL;
+
+    public ProductFields getFields() {
+        return fields != null ? fields : ProductFields.ALL;
+    }
+
+    public boolean hasCategory() {
+        return category != null && !category.isBlank();
+    }
+
+    public boolean hasIdRange() {
+        return minId != null || maxId != null;
+    }
+
+    /* minId > maxId 는 항상 빈 결과이므로 조회하지 않고 400 */
+    @AssertTrue(message = "minId는 maxId 이하여야 합니다.")
+    public boolean isIdRangeOrdered() {
+        return minId == null || maxId == null || minId <= maxId;
+    }
 }
@@ -0,0 +1,33 @@
+package com.wjc.codetest.product.model.request;
+
+import lombok.Getter;
+
+/**
+ * ProductField
+ *
+ * [sparse fieldset(?fields=) 으로 선택 가능한 상품 응답 필드]
+ *
+ * - name 은 JSON 필드명이자 product 테이블 컬럼명 / Product 엔티티 속성명
+ */
+@Getter
+public enum ProductField {
+
+    ID("id"),
+    CATEGORY("category"),
+    NAME("name");
+
+    private final String name;
+
+    ProductField(String name) {
+        this.name = name;
+    }
+
+    public static ProductField fromName(String name) {
+        for (ProductField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown product field: " + name);
+    }
+}
@@ -0,0 +1,110 @@
+package com.wjc.codetest.product.model.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductFields
+ *
+ * [상품 응답 필드 선택 (?fields=id,name)]
+ *
+ * 1. 문제
+ * - ProductResponse 가 항상 모든 필드를 직렬화하고, 조회도 항상 모든 컬럼을 가져옴
+ * - 그리드 화면처럼 id, name 만 필요한 대량 조회에서 불필요한 컬럼 조회/전송 비용 발생
+ *
+ * 2. 개선안
+ * - 선택된 필드 집합을 bit mask 로 표현하고, 가능한 모든 조합(2^3)을 미리 생성해 재사용
+ * - 조합별 JPQL select 절 / SQL 컬럼 목록 / 결과 위치를 미리 계산
+ *   → Repository 는 선택된 컬럼만 조회, 직렬화는 mask 확인만으로 필드 기록 (요청 시 리플렉션 없음)
+ *
+ * - 요청 파라미터 바인딩은 정적 팩토리 of(String) 를 통해 Spring 변환기가 수행
+ * - 미지정 / 빈 값이면 ALL
+ */
+public final class ProductFields {
+
+    private static final ProductField[] FIELDS = ProductField.values();
+    private static final ProductFields[] BY_MASK = new ProductFields[1 << FIELDS.length];
+
+    static {
+        for (int mask = 1; mask < BY_MASK.length; mask++) {
+            BY_MASK[mask] = new ProductFields(mask);
+        }
+    }
+
+    public static final ProductFields ALL = BY_MASK[BY_MASK.length - 1];
+
+    private final int mask;
+    private final int[] positions;
+    private final String jpqlSelect;
+    private final String sqlColumns;
+
+    private ProductFields(int mask) {
+        this.mask = mask;
+        this.positions = new int[FIELDS.length];
+
+        List<String> jpql = new ArrayList<>();
+        List<String> sql = new ArrayList<>();
+        for (ProductField field : FIELDS) {
+            if ((mask & bit(field)) == 0) {
+                positions[field.ordinal()] = -1;
+                continue;
+            }
+            positions[field.ordinal()] = sql.size();
+            jpql.add("p." + field.getName());
+            sql.add(field.getName());
+        }
+        this.jpqlSelect = String.join(", ", jpql);
+        this.sqlColumns = String.join(", ", sql);
+    }
+
+    /**
+     * "id,name" 형태의 문자열을 파싱 (알 수 없는 필드명은 IllegalArgumentException)
+     */
+    public static ProductFields of(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        int mask = 0;
+        for (String name : value.split(",")) {
+            if (!name.isBlank()) {
+                mask |= bit(ProductField.fromName(name.trim()));
+            }
+        }
+        return mask == 0 ? ALL : BY_MASK[mask];
+    }
+
+    public boolean contains(ProductField field) {
+        return (mask & bit(field)) != 0;
+    }
+
+    public ProductFields with(ProductField field) {
+        return BY_MASK[mask | bit(field)];
+    }
+
+    /**
+     * 조회 결과(tuple / row)에서 해당 필드의 위치, 선택되지 않은 필드는 -1
+     */
+    public int positionOf(ProductField field) {
+        return positions[field.ordinal()];
+    }
+
+    /* 예: "p.id, p.name" */
+    public String jpqlSelect() {
+        return jpqlSelect;
+    }
+
+    /* 예: "id, name" */
+    public String sqlColumns() {
+        return sqlColumns;
+    }
+
+    @Override
+    public String toString() {
+        return sqlColumns.replace(" ", "");
+    }
+
+    private static int bit(ProductField field) {
+        return 1 << field.ordinal();
+    }
+}
@@ -0,0 +1,31 @@
+package com.wjc.codetest.product.model.request;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * ProductSort
+ *
+ * [상품 목록 정렬 기준]
+ *
+ * - 각 정렬은 Product @Table 인덱스로 정렬 순서가 보장되는 조합만 정의
+ *   · ID_*   : PK / (category, id)
+ *   · NAME_* : (name, id) / (category, name, id)
+ * - 이름 정렬은 동일 이름 간 페이지 경계가 흔들리지 않도록 id를 보조 정렬로 사용
+ */
+@Getter
+public enum ProductSort {
+
+    ID_DESC(Sort.by(Sort.Direction.DESC, "id"), true),
+    ID_ASC(Sort.by(Sort.Direction.ASC, "id"), true),
+    NAME_ASC(Sort.by(Sort.Direction.ASC, "name").and(Sort.by(Sort.Direction.ASC, "id")), false),
+    NAME_DESC(Sort.by(Sort.Direction.DESC, "name").and(Sort.by(Sort.Direction.DESC, "id")), false);
+
+    private final Sort sort;
+    private final boolean idOrdered;
+
+    ProductSort(Sort sort, boolean idOrdered) {
+        this.sort = sort;
+        this.idOrdered = idOrdered;
+    }
+}
@@ -1,6 +1,5 @@
 package com.wjc.codetest.product.model.response;
 
-import com.wjc.codetest.product.model.domain.Product;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
@@ -24,7 +23,7 @@ import java.util.List;
  *
  * 3. 개선안
  * - API 응답 전용 DTO(ProductListResponse, ProductResponse) 분리
- * - Page<Product>를 생성자에서 받아 필요한 정보만 추출하여 매핑
+ * - 조회 결과(Page<ProductResponse>)에서 필요한 정보만 추출하여 매핑
  * - Entity를 직접 노출하지 않고, 외부 계약(API 스펙)을 안정적으로 유지
  *
  *   → Entity 변경과 API 변경을 분리하여 유지보수성과 확장성 향상
@@ -42,13 +41,20 @@ public class ProductListResponse {
     private final long totalElements;
     private final int page;
 
-    public ProductListResponse(Page<Product> page) {
-        this.products = page.getContent()
-                .stream()
-                .map(ProductResponse::new)
-                .toList();
-        this.totalPages = page.getTotalPages();
-        this.totalElements = page.getTotalElements();
-        this.page = page.getNumber();
+    private ProductListResponse(List<ProductResponse> products, int totalPages, long totalElements, int page) {
+        this.products = products;
+        this.totalPages = totalPages;
+        this.totalElements = totalElements;
+        this.page = page;
+    }
+
+    /* 선택된 필드만 조회하여 Response DTO 로 매핑된 페이지 (servlet / reactive 공통) */
+    public static ProductListResponse ofResponses(Page<ProductResponse> page) {
+        return new ProductListResponse(
+                page.getContent(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.getNumber()
+        );
     }
 }
@@ -1,17 +1,47 @@
 package com.wjc.codetest.product.model.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.ProductFields;
 import lombok.Getter;
 
+/**
+ * ProductResponse
+ *
+ * - fields : 응답에 포함할 필드 (?fields=), 선택되지 않은 필드는 조회되지 않아 null
+ * - 직렬화는 ProductResponseSerializer 가 fields 기준으로 수행
+ */
 @Getter
+@JsonSerialize(using = ProductResponseSerializer.class)
 public class ProductResponse {
     private final Long id;
     private final String category;
     private final String name;
+    private final ProductFields fields;
 
     public ProductResponse(Product product) {
         this.id = product.getId();
         this.category = product.getCategory();
         this.name = product.getName();
+        this.fields = ProductFields.ALL;
+    }
+
+    /* Entity 를 거치지 않는 조회(R2DBC row 등)용 */
+    public ProductResponse(Long id, String category, String name) {
+        this(id, category, name, ProductFields.ALL);
+    }
+
+    public ProductResponse(Long id, String category, String name, ProductFields fields) {
+        this.id = id;
+        this.category = category;
+        this.name = name;
+        this.fields = fields;
+    }
+
+    /**
+     * 같은 값을 더 좁은 필드 집합으로 응답 (내부적으로 추가 조회한 필드 숨김용)
+     */
+    public ProductResponse restrictTo(ProductFields fields) {
+        return this.fields == fields ? this : new ProductResponse(id, category, name, fields);
     }
 }
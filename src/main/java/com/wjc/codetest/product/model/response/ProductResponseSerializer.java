@@ -0,0 +1,57 @@
+package com.wjc.codetest.product.model.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.wjc.codetest.product.model.request.ProductField;
+import com.wjc.codetest.product.model.request.ProductFields;
+
+import java.io.IOException;
+
+/**
+ * ProductResponseSerializer
+ *
+ * [ProductResponse 전용 직렬화]
+ *
+ * - 선택된 필드(ProductFields)만 기록
+ * - getter 직접 호출 + 미리 인코딩한 필드명 사용 (BeanSerializer 의 리플렉션 접근 없음)
+ */
+public class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+    private static final SerializedString ID = new SerializedString(ProductField.ID.getName());
+    private static final SerializedString CATEGORY = new SerializedString(ProductField.CATEGORY.getName());
+    private static final SerializedString NAME = new SerializedString(ProductField.NAME.getName());
+
+    public ProductResponseSerializer() {
+        super(ProductResponse.class);
+    }
+
+    @Override
+    public void serialize(ProductResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        ProductFields fields = value.getFields();
+
+        gen.writeStartObject(value);
+        if (fields.contains(ProductField.ID)) {
+            gen.writeFieldName(ID);
+            writeNullableNumber(gen, value.getId());
+        }
+        if (fields.contains(ProductField.CATEGORY)) {
+            gen.writeFieldName(CATEGORY);
+            gen.writeString(value.getCategory());
+        }
+        if (fields.contains(ProductField.NAME)) {
+            gen.writeFieldName(NAME);
+            gen.writeString(value.getName());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeNullableNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
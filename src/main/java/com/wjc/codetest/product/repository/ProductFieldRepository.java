@@ -0,0 +1,36 @@
+package com.wjc.codetest.product.repository;
+
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductFieldRepository
+ *
+ * [선택된 컬럼만 조회하는 상품 조회 (ProductRepository fragment)]
+ *
+ * - 결과는 Entity 가 아닌 ProductResponse 로 바로 매핑 (영속성 컨텍스트 관리 대상 아님)
+ * - 선택되지 않은 필드는 null
+ */
+public interface ProductFieldRepository {
+
+    Optional<ProductResponse> findFieldsById(Long id, ProductFields fields);
+
+    List<ProductResponse> findFieldsByIdIn(Collection<Long> ids, ProductFields fields);
+
+    /**
+     * category / minId / maxId 는 null 이면 조건에서 제외
+     */
+    Page<ProductResponse> findFieldsPage(
+            String category,
+            Long minId,
+            Long maxId,
+            ProductFields fields,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,125 @@
+package com.wjc.codetest.product.repository;
+
+import com.wjc.codetest.product.model.request.ProductField;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/*
+ * SimpleJpaRepository 와 같이 조회 메서드 단위 readOnly 트랜잭션
+ * (호출 측에 트랜잭션이 없어도 getResultStream / page + count 조회가 하나의 트랜잭션에서 실행)
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class ProductFieldRepositoryImpl implements ProductFieldRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<ProductResponse> findFieldsById(Long id, ProductFields fields) {
+        return entityManager.createQuery(
+                        "SELECT " + fields.jpqlSelect() + " FROM Product p WHERE p.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toResponse(tuple, fields));
+    }
+
+    @Override
+    public List<ProductResponse> findFieldsByIdIn(Collection<Long> ids, ProductFields fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.createQuery(
+                        "SELECT " + fields.jpqlSelect() + " FROM Product p WHERE p.id IN :ids", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Page<ProductResponse> findFieldsPage(
+            String category,
+            Long minId,
+            Long maxId,
+            ProductFields fields,
+            Pageable pageable
+    ) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (category != null) {
+            predicates.add("p.category = :category");
+            params.put("category", category);
+        }
+        if (minId != null) {
+            predicates.add("p.id >= :minId");
+            params.put("minId", minId);
+        }
+        if (maxId != null) {
+            predicates.add("p.id <= :maxId");
+            params.put("maxId", maxId);
+        }
+        String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+
+        TypedQuery<Tuple> contentQuery = entityManager.createQuery(
+                "SELECT " + fields.jpqlSelect() + " FROM Product p" + where + orderBy(pageable.getSort()),
+                Tuple.class);
+        params.forEach(contentQuery::setParameter);
+        // 요청 단계에서 page 상한(GetProductListRequest.MAX_PAGE)으로 막고, 넘는 값은 잘라내지 않고 실패
+        contentQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        contentQuery.setMaxResults(pageable.getPageSize());
+
+        List<ProductResponse> content = contentQuery.getResultList()
+                .stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> countQuery = entityManager.createQuery(
+                    "SELECT count(p.id) FROM Product p" + where, Long.class);
+            params.forEach(countQuery::setParameter);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> "p." + order.getProperty() + " " + order.getDirection().name())
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private static ProductResponse toResponse(Tuple tuple, ProductFields fields) {
+        int id = fields.positionOf(ProductField.ID);
+        int category = fields.positionOf(ProductField.CATEGORY);
+        int name = fields.positionOf(ProductField.NAME);
+
+        return new ProductResponse(
+                id < 0 ? null : tuple.get(id, Long.class),
+                category < 0 ? null : tuple.get(category, String.class),
+                name < 0 ? null : tuple.get(name, String.class),
+                fields
+        );
+    }
+}
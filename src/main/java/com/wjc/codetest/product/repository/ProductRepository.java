@@ -1,20 +1,23 @@
 package com.wjc.codetest.product.repository;
 
 import com.wjc.codetest.product.model.domain.Product;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-
-    Page<Product> findAllByCategory(String name, Pageable pageable);
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductFieldRepository {
 
     @Query("SELECT DISTINCT p.category FROM Product p")
     List<String> findDistinctCategories();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT p.id FROM Product p")
+    Stream<Long> streamAllIds();
 }
@@ -0,0 +1,143 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * ProductIdFilter
+ *
+ * [존재하지 않는 상품 id 조회를 DB 조회 없이 차단하기 위한 id 비트맵]
+ *
+ * 1. 문제
+ * - 스크래퍼/오래된 클라이언트의 GET /products/{id} 요청 상당수가 존재하지 않는 id
+ * - 요청마다 findById 왕복 + 예외 생성 비용이 발생
+ *
+ * 2. 개선안
+ * - id는 IDENTITY 전략으로 조밀하게 증가하므로 bloom filter 대신 정확한 비트맵 사용
+ *   (오탐 없음, 삭제 지원, id 1개당 1bit)
+ * - mightContain == false 이면 "확실히 없음" → DB 조회 생략
+ * - 기동 완료(ApplicationReadyEvent) 시 전체 id 적재, 이후 ProductService 쓰기 시 갱신
+ *
+ * 3. 일관성
+ * - 적재 전 / 범위 밖 id 는 항상 true(판단 불가) → 기존 DB 조회로 위임
+ * - 생성: save 직후 즉시 추가 (롤백 시 남는 비트는 DB 조회로 보정되므로 안전)
+ * - 삭제: 커밋 이후 제거 (롤백된 삭제가 404로 보이는 일이 없도록)
+ * - 인스턴스별 in-memory H2 기준 설계 (DB를 공유하는 다중 인스턴스 환경에서는 사용 불가)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIdFilter {
+
+    private static final int INITIAL_WORDS = 1 << 10;          // 65,536 ids
+    private static final long MAX_TRACKED_ID = 1L << 31;        // 최대 256MB
+
+    private final ProductRepository productRepository;
+
+    private final Object writeLock = new Object();
+    private volatile AtomicLongArray words = new AtomicLongArray(INITIAL_WORDS);
+    private volatile boolean ready;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long count = 0;
+        try (Stream<Long> ids = productRepository.streamAllIds()) {
+            for (Long id : (Iterable<Long>) ids::iterator) {
+                add(id);
+                count++;
+            }
+        }
+        ready = true;
+
+        log.info("Product id filter loaded. ids={}, words={}", count, words.length());
+    }
+
+    /**
+     * @return false 이면 해당 id의 상품은 확실히 존재하지 않음
+     */
+    public boolean mightContain(Long id) {
+        if (!ready || id == null || id >= MAX_TRACKED_ID) {
+            return true;
+        }
+        if (id < 0) {
+            return false;
+        }
+
+        AtomicLongArray current = words;
+        int wordIndex = (int) (id >>> 6);
+        return wordIndex < current.length()
+                && (current.get(wordIndex) & (1L << id)) != 0;
+    }
+
+    public void add(Long id) {
+        if (id == null || id < 0 || id >= MAX_TRACKED_ID) {
+            return;
+        }
+
+        int wordIndex = (int) (id >>> 6);
+        synchronized (writeLock) {
+            AtomicLongArray current = ensureCapacity(wordIndex);
+            current.set(wordIndex, current.get(wordIndex) | (1L << id));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 id 제거 (트랜잭션 밖에서는 즉시 제거)
+     */
+    public void removeAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(id);
+            }
+        });
+    }
+
+    private void remove(Long id) {
+        if (id == null || id < 0 || id >= MAX_TRACKED_ID) {
+            return;
+        }
+
+        int wordIndex = (int) (id >>> 6);
+        synchronized (writeLock) {
+            AtomicLongArray current = words;
+            if (wordIndex < current.length()) {
+                current.set(wordIndex, current.get(wordIndex) & ~(1L << id));
+            }
+        }
+    }
+
+    private AtomicLongArray ensureCapacity(int wordIndex) {
+        AtomicLongArray current = words;
+        if (wordIndex < current.length()) {
+            return current;
+        }
+
+        int newLength = (int) Math.min(
+                Math.max((long) wordIndex + 1, (long) current.length() << 1),
+                MAX_TRACKED_ID >>> 6
+        );
+        AtomicLongArray grown = new AtomicLongArray(newLength);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        words = grown;
+        return grown;
+    }
+}
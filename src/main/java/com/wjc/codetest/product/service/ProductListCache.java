@@ -0,0 +1,176 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.request.ProductSort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * ProductListCache
+ *
+ * [상품 목록 앞쪽 페이지 응답 캐시 (직렬화된 JSON bytes)]
+ *
+ * 1. 문제
+ * - 카테고리별 앞쪽 몇 페이지가 목록 트래픽 대부분을 차지
+ * - 요청마다 목록 조회 + count 쿼리 + DTO 매핑 + JSON 직렬화를 반복
+ *
+ * 2. 개선안
+ * - id 범위 조건이 없고 page <= max-page 인 요청만 캐시 (조회 조건 전체를 key 로 사용)
+ * - 값은 ApiResponse 까지 직렬화가 끝난 byte[] → hit 시 DB / 매핑 / 직렬화 모두 생략
+ * - 전체 byte 크기 상한(max-bytes) 초과 시 LRU 순서로 제거
+ *
+ * 3. 무효화
+ * - ProductService 쓰기(create/update/deleteById) 커밋 이후 해당 카테고리 페이지와
+ *   카테고리 미지정(전체) 페이지만 제거 - 다른 카테고리 캐시는 유지
+ * - 카테고리별 generation 으로, 무효화 이전에 조회를 시작한 요청이
+ *   무효화 이후에 오래된 결과를 저장하지 못하도록 차단
+ */
+@Slf4j
+@Component
+public class ProductListCache {
+
+    /* 카테고리 미지정 요청 (상품 category 는 @NotBlank 이므로 충돌 없음) */
+    private static final String UNFILTERED = "";
+
+    public record Key(String category, ProductSort sort, int page, int size, ProductFields fields) {
+
+        public static Key of(GetProductListRequest request) {
+            return new Key(
+                    request.hasCategory() ? request.getCategory() : UNFILTERED,
+                    request.getSort(),
+                    request.getPage(),
+                    request.getSize(),
+                    request.getFields()
+            );
+        }
+    }
+
+    private final long maxBytes;
+    private final int maxPage;
+
+    /* access-order LinkedHashMap = LRU */
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Set<Key>> keysByCategory = new HashMap<>();
+    private final Map<String, Long> generations = new HashMap<>();
+    private long bytes;
+
+    public ProductListCache(
+            @Value("${product.list-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${product.list-cache.max-page:2}") int maxPage
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxPage = maxPage;
+    }
+
+    public boolean isCacheable(GetProductListRequest request) {
+        return maxBytes > 0
+                && !request.hasIdRange()
+                && request.getPage() <= maxPage;
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader 결과를 저장 후 반환
+     * - loader(조회 + 직렬화)는 lock 밖에서 실행
+     */
+    public byte[] getOrLoad(Key key, Supplier<byte[]> loader) {
+        long generation;
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            generation = generationOf(key.category());
+        }
+
+        byte[] body = loader.get();
+        put(key, generation, body);
+        return body;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 해당 카테고리들과 전체 목록 캐시 제거 (트랜잭션 밖에서는 즉시 제거)
+     */
+    public void evictAfterCommit(String... categories) {
+        List<String> targets = List.of(categories);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(targets);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(targets);
+            }
+        });
+    }
+
+    private synchronized void put(Key key, long generation, byte[] body) {
+        if (body.length > maxBytes || generation != generationOf(key.category())) {
+            return;
+        }
+
+        byte[] previous = entries.put(key, body);
+        bytes += body.length - (previous != null ? previous.length : 0);
+        keysByCategory.computeIfAbsent(key.category(), category -> new HashSet<>()).add(key);
+
+        Iterator<Map.Entry<Key, byte[]>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Key, byte[]> entry = eldest.next();
+            eldest.remove();
+            bytes -= entry.getValue().length;
+            unindex(entry.getKey());
+        }
+    }
+
+    private synchronized void evict(List<String> categories) {
+        Set<String> targets = new HashSet<>(categories);
+        targets.add(UNFILTERED);
+
+        int evicted = 0;
+        for (String category : targets) {
+            generations.merge(category, 1L, Long::sum);
+
+            Set<Key> keys = keysByCategory.remove(category);
+            if (keys == null) {
+                continue;
+            }
+            for (Key key : keys) {
+                byte[] removed = entries.remove(key);
+                if (removed != null) {
+                    bytes -= removed.length;
+                    evicted++;
+                }
+            }
+        }
+
+        log.debug("Product list cache evicted. categories={}, entries={}", targets, evicted);
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = keysByCategory.get(key.category());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByCategory.remove(key.category());
+            }
+        }
+    }
+
+    private long generationOf(String category) {
+        return generations.getOrDefault(category, 0L);
+    }
+}
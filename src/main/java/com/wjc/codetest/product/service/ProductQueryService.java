@@ -1,16 +1,26 @@
 package com.wjc.codetest.product.service;
 
 import com.wjc.codetest.product.exception.ProductNotFoundException;
+import com.wjc.codetest.product.exception.UnsupportedProductQueryException;
 import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductField;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.request.ProductSort;
+import com.wjc.codetest.product.model.response.ProductResponse;
 import com.wjc.codetest.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 상품 단건 조회
@@ -32,6 +42,12 @@ import java.util.List;
  * 4. 검증
  * - 존재하지 않는 ID 조회 시 ProductNotFoundException 발생 확인
  * - 정상 ID 조회 시 기존 동작 동일함 확인
+ *
+ * 5. 존재하지 않는 ID 단락 처리
+ * - ProductIdFilter 가 확실히 없다고 판단한 id는 DB 조회 없이 바로 404
+ * - id 조회 메서드는 @Transactional 을 두지 않음
+ *   → 트랜잭션 시작(커넥션 획득, readOnly/autoCommit 설정, commit) 전에 필터를 확인하고,
+ *     후보 id 만 Repository(자체 readOnly 트랜잭션)로 조회
  */
 
 @Service
@@ -39,30 +55,100 @@ import java.util.List;
 public class ProductQueryService {
 
     private final ProductRepository productRepository;
+    private final ProductIdFilter productIdFilter;
 
-    @Transactional(readOnly = true)
     public Product getById(Long productId) {
+        if (!productIdFilter.mightContain(productId)) {
+            throw ProductNotFoundException.INSTANCE;
+        }
+
         return productRepository.findById(productId)
-                .orElseThrow(ProductNotFoundException::new);
+                .orElseThrow(() -> ProductNotFoundException.INSTANCE);
     }
 
+    /**
+     * 상품 단건 조회 (선택된 필드만 조회)
+     */
+    public ProductResponse getById(Long productId, ProductFields fields) {
+        if (!productIdFilter.mightContain(productId)) {
+            throw ProductNotFoundException.INSTANCE;
+        }
+
+        return productRepository.findFieldsById(productId, fields)
+                .orElseThrow(() -> ProductNotFoundException.INSTANCE);
+    }
+
+    /**
+     * 상품 다건 조회
+     *
+     * - 요청한 id 순서대로 반환 (중복 제거, 존재하지 않는 id는 제외)
+     * - 순서 복원을 위해 id는 항상 조회하고, 응답에서는 요청한 필드만 노출
+     * - 후보 id 가 없으면 DB 조회 없이 빈 목록
+     */
+    public List<ProductResponse> getAllByIds(List<Long> productIds, ProductFields fields) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Long productId : productIds) {
+            if (productId != null && productIdFilter.mightContain(productId)) {
+                candidates.add(productId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductResponse> found = new HashMap<>();
+        for (ProductResponse product : productRepository.findFieldsByIdIn(candidates, fields.with(ProductField.ID))) {
+            found.put(product.getId(), product);
+        }
+
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        for (Long productId : candidates) {
+            ProductResponse product = found.get(productId);
+            if (product != null) {
+                products.add(product.restrictTo(fields));
+            }
+        }
+        return products;
+    }
+
+    /**
+     * 상품 목록 조회
+     *
+     * - 정렬/필터 조합별로 사용하는 인덱스가 정해져 있음 (Product @Table 참고)
+     *
+     *   | category | id 범위 | 정렬   | 인덱스               |
+     *   |----------|---------|--------|----------------------|
+     *   | -        | -       | id     | PK                   |
+     *   | O        | -       | id     | (category, id)       |
+     *   | -        | O       | id     | PK (range)           |
+     *   | O        | O       | id     | (category, id) range |
+     *   | -        | -       | name   | (name, id)           |
+     *   | O        | -       | name   | (category, name, id) |
+     *
+     * - 이름 정렬 + id 범위는 어느 인덱스로도 정렬 순서를 유지한 채 범위를 좁힐 수 없어
+     *   filesort 로 빠지므로 UnsupportedProductQueryException(400)으로 거절
+     * - 선택된 필드(?fields=)의 컬럼만 조회
+     */
     @Transactional(readOnly = true)
-    public Page<Product> getListByCategory(
-            String category,
-            int page,
-            int size
-    ) {
+    public Page<ProductResponse> getList(GetProductListRequest request) {
+        ProductSort sort = request.getSort();
+        if (request.hasIdRange() && !sort.isIdOrdered()) {
+            throw new UnsupportedProductQueryException();
+        }
+
         PageRequest pageRequest = PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "id")
+                request.getPage(),
+                request.getSize(),
+                sort.getSort()
         );
 
-        if (category == null || category.isBlank()) {
-            return productRepository.findAll(pageRequest);
-        }
-
-        return productRepository.findAllByCategory(category, pageRequest);
+        return productRepository.findFieldsPage(
+                request.hasCategory() ? request.getCategory() : null,
+                request.getMinId(),
+                request.getMaxId(),
+                request.getFields(),
+                pageRequest
+        );
     }
 
     @Transactional(readOnly = true)
@@ -22,6 +22,8 @@ public class ProductService {
 
     private final ProductQueryService productQueryService;
     private final ProductRepository productRepository;
+    private final ProductIdFilter productIdFilter;
+    private final ProductListCache productListCache;
 
     /**
      * 상품 생성
@@ -47,6 +49,8 @@ public class ProductService {
     public Product create(CreateProductRequest dto) {
         Product product = new Product(dto.getCategory(), dto.getName());
         Product savedProduct = productRepository.save(product);
+        productIdFilter.add(savedProduct.getId());
+        productListCache.evictAfterCommit(savedProduct.getCategory());
 
         log.info("Product created. id={}, category={}, name={}",
                 savedProduct.getId(),
@@ -61,19 +65,30 @@ public class ProductService {
      * 상품 수정
      *
      * - Dirty Checking을 활용하여 save() 호출 없이 수정 반영
+     * - 카테고리 변경 시 이전/이후 카테고리의 목록 캐시 모두 제거
      */
     @Transactional
     public Product update(Long productId, UpdateProductRequest dto) {
         Product product = productQueryService.getById(productId);
+        String previousCategory = product.getCategory();
         product.change(dto.getCategory(), dto.getName());
+        productListCache.evictAfterCommit(previousCategory, product.getCategory());
 
         return product; // Dirty Checking
     }
 
 
+    /**
+     * 상품 삭제
+     *
+     * - id 필터에서는 커밋 이후 제거 (롤백 시 존재하는 상품이 404 처리되지 않도록)
+     * - 해당 카테고리 / 전체 목록 캐시도 커밋 이후 제거
+     */
     @Transactional
     public void deleteById(Long productId) {
         Product product = productQueryService.getById(productId);
         productRepository.delete(product);
+        productIdFilter.removeAfterCommit(productId);
+        productListCache.evictAfterCommit(product.getCategory());
     }
 }
\ No newline at end of file
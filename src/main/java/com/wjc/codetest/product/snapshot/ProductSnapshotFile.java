@@ -0,0 +1,198 @@
+package com.wjc.codetest.product.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductSnapshotFile
+ *
+ * [product 테이블 스냅샷 파일 포맷]
+ *
+ * - header (40 bytes) : magic(int) | version(int) | rowCount(long) | maxId(long) | nextId(long) | dictionaryOffset(long)
+ * - rows              : id(long) | categoryIndex(int) | nameLength(unsigned short) | name(UTF-8)
+ * - dictionary        : count(int) | { length(unsigned short) | category(UTF-8) } ...
+ *
+ * - nextId 는 IDENTITY 의 다음 값(high-water mark) - 마지막 id 들이 삭제된 경우에도
+ *   복원 후 삭제된 id 가 재발급되지 않도록 maxId 와 별도로 기록
+ * - category 는 종류가 적으므로 사전(dictionary)으로 한 번만 기록하고 row 에는 index 만 기록
+ * - 쓰기는 임시 파일에 기록 후 fsync → atomic move (쓰는 도중 종료되어도 이전 스냅샷 유지)
+ * - 읽기는 memory-mapped buffer 에서 바로 디코딩 (최대 2GB)
+ */
+public final class ProductSnapshotFile {
+
+    static final int MAGIC = 0x50534E50; // "PSNP"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 40;
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(long id, String category, String name) throws Exception;
+    }
+
+    private ProductSnapshotFile() {
+    }
+
+    public static Writer writer(Path target) throws IOException {
+        return new Writer(target);
+    }
+
+    /**
+     * @return 읽은 row 수, 최대 id, IDENTITY 다음 값
+     */
+    public static Summary read(Path source, RowConsumer consumer) throws Exception {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot larger than 2GB is not supported: " + source);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (size < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("Not a product snapshot (v" + VERSION + "): " + source);
+            }
+            long rowCount = buffer.getLong();
+            long maxId = buffer.getLong();
+            long nextId = buffer.getLong();
+            long dictionaryOffset = buffer.getLong();
+
+            String[] categories = readDictionary(buffer.duplicate().position((int) dictionaryOffset));
+
+            byte[] scratch = new byte[0xFFFF];
+            buffer.position(HEADER_BYTES);
+            for (long i = 0; i < rowCount; i++) {
+                long id = buffer.getLong();
+                String category = categories[buffer.getInt()];
+                int length = Short.toUnsignedInt(buffer.getShort());
+                buffer.get(scratch, 0, length);
+                consumer.accept(id, category, new String(scratch, 0, length, StandardCharsets.UTF_8));
+            }
+            return new Summary(rowCount, maxId, nextId, size);
+        }
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer) {
+        String[] categories = new String[buffer.getInt()];
+        byte[] scratch = new byte[0xFFFF];
+        for (int i = 0; i < categories.length; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            buffer.get(scratch, 0, length);
+            categories[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return categories;
+    }
+
+    public record Summary(long rowCount, long maxId, long nextId, long bytes) {
+    }
+
+    /**
+     * 스냅샷 기록기 - write() 를 id 오름차순으로 호출한 뒤 commit(nextId)
+     * commit() 없이 close() 하면 임시 파일만 삭제되고 기존 스냅샷은 그대로 유지
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path target;
+        private final Path temp;
+        private final DataOutputStream out;
+
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> categories = new ArrayList<>();
+        private long offset = HEADER_BYTES;
+        private long rowCount;
+        private long maxId;
+        private boolean committed;
+
+        private Writer(Path target) throws IOException {
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+
+            this.target = target;
+            this.temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+
+            OutputStream stream = Files.newOutputStream(temp, StandardOpenOption.TRUNCATE_EXISTING);
+            this.out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+            out.write(new byte[HEADER_BYTES]);
+        }
+
+        public void write(long id, String category, String name) throws IOException {
+            Integer index = dictionary.get(category);
+            if (index == null) {
+                index = categories.size();
+                dictionary.put(category, index);
+                categories.add(category);
+            }
+
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            out.writeLong(id);
+            out.writeInt(index);
+            out.writeShort(encoded.length);
+            out.write(encoded);
+
+            offset += Long.BYTES + Integer.BYTES + Short.BYTES + encoded.length;
+            rowCount++;
+            maxId = Math.max(maxId, id);
+        }
+
+        /**
+         * 기록된 row 의 maxId + 1 을 IDENTITY 다음 값으로 사용
+         */
+        public Summary commit() throws IOException {
+            return commit(maxId + 1);
+        }
+
+        /**
+         * @param nextId IDENTITY 다음 값 (maxId + 1 보다 작으면 maxId + 1 로 보정)
+         */
+        public Summary commit(long nextId) throws IOException {
+            long identityNext = Math.max(nextId, maxId + 1);
+
+            long dictionaryOffset = offset;
+            out.writeInt(categories.size());
+            for (String category : categories) {
+                byte[] encoded = category.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(encoded.length);
+                out.write(encoded);
+            }
+            out.close();
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(rowCount)
+                        .putLong(maxId)
+                        .putLong(identityNext)
+                        .putLong(dictionaryOffset)
+                        .flip();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return new Summary(rowCount, maxId, identityNext, Files.size(target));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.wjc.codetest.product.snapshot;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductSnapshotLifecycle
+ *
+ * [product 테이블 스냅샷 저장 / 기동 시 복원]
+ *
+ * 1. 문제
+ * - in-memory H2 + ddl-auto=create-drop 으로 재시작 시 모든 데이터가 사라짐
+ * - API 로 상품을 다시 적재하면 row 단위 insert + 트랜잭션 비용으로 오래 걸림
+ *
+ * 2. 개선안
+ * - 종료 시(및 주기적으로) product 테이블을 스냅샷 파일(ProductSnapshotFile)로 저장
+ * - 기동 시 테이블이 비어 있고 스냅샷이 있으면 memory-mapped 로 읽어 JDBC batch 로 적재
+ *   · bulk load 가 아니라 row 당 INSERT 1건이며, BATCH_SIZE 건씩 묶어 전송할 뿐임
+ *   · batch 마다 commit 하여 전체 건수만큼의 undo log / 트랜잭션 상태가 한 번에 쌓이지 않도록 함
+ *   · 중간에 실패하면 이미 commit 된 row 를 비워(TRUNCATE) 다음 기동 시 다시 복원 가능하게 함
+ *   → 적재 후 IDENTITY 를 저장 시점의 다음 값(high-water mark)으로 재설정
+ *     (maxId + 1 로 재설정하면 삭제된 마지막 id 들이 재발급되어 클라이언트의 id 가 바뀜)
+ *
+ * 3. 실행 순서
+ * - phase 가 웹 서버 lifecycle 보다 낮으므로 요청 수신 전에 복원, 요청 수신 종료 후에 저장
+ * - 스키마 삭제(create-drop)는 EntityManagerFactory 종료 시점이므로 저장 이후에 수행됨
+ *
+ * - product.snapshot.enabled=true 일 때만 등록 (snapshot 프로파일 참고)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.snapshot.enabled", havingValue = "true")
+public class ProductSnapshotLifecycle implements SmartLifecycle {
+
+    private static final int PHASE = 0;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Path path;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public ProductSnapshotLifecycle(
+            DataSource dataSource,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${product.snapshot.path:./data/product.snapshot}") Path path,
+            @Value("${product.snapshot.interval:PT5M}") Duration interval
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(BATCH_SIZE);
+        this.entityManagerFactory = entityManagerFactory;
+        this.path = path;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        // deferred JPA bootstrap 인 경우에도 스키마 생성이 끝난 뒤 복원하도록 대기
+        entityManagerFactory.getMetamodel();
+
+        try {
+            restore();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to restore product snapshot: " + path, e);
+        }
+
+        if (!interval.isZero() && !interval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "product-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::saveQuietly,
+                    interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        saveQuietly();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * product 테이블 전체를 id 순서로 스냅샷 파일에 기록 (주기 저장 / 종료 저장 동시 실행 방지)
+     */
+    public synchronized ProductSnapshotFile.Summary save() throws Exception {
+        long start = System.nanoTime();
+
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            jdbcTemplate.query("SELECT id, category, name FROM product ORDER BY id", rs -> {
+                try {
+                    writer.write(rs.getLong(1), rs.getString(2), rs.getString(3));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // row 기록 이후에 읽으므로 기록된 어떤 id 보다도 큼
+            ProductSnapshotFile.Summary summary = writer.commit(identityNextValue());
+
+            log.info("Product snapshot saved. path={}, rows={}, bytes={}, elapsedMs={}",
+                    path, summary.rowCount(), summary.bytes(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return summary;
+        }
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (Exception e) {
+            log.error("Failed to save product snapshot. path={}", path, e);
+        }
+    }
+
+    /**
+     * 테이블이 비어 있고 스냅샷 파일이 있을 때만 적재
+     */
+    void restore() throws Exception {
+        if (!Files.exists(path)) {
+            log.info("Product snapshot not found, starting empty. path={}", path);
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM product", Long.class);
+        if (existing != null && existing > 0) {
+            log.warn("Product table is not empty, skipping snapshot restore. rows={}", existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ProductSnapshotFile.Summary summary;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO product (id, category, name) VALUES (?, ?, ?)")) {
+                int[] pending = {0};
+                summary = ProductSnapshotFile.read(path, (id, category, name) -> {
+                    insert.setLong(1, id);
+                    insert.setString(2, category);
+                    insert.setString(3, name);
+                    insert.addBatch();
+                    if (++pending[0] == BATCH_SIZE) {
+                        insert.executeBatch();
+                        connection.commit();
+                        pending[0] = 0;
+                    }
+                });
+                if (pending[0] > 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            } catch (Exception e) {
+                connection.rollback();
+                // 앞선 batch 는 이미 commit 되었으므로 비워 두어야 다음 기동 시 "비어 있지 않음"으로 건너뛰지 않음
+                try (Statement truncate = connection.createStatement()) {
+                    truncate.execute("TRUNCATE TABLE product");
+                    connection.commit();
+                } catch (SQLException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        jdbcTemplate.execute("ALTER TABLE product ALTER COLUMN id RESTART WITH " + summary.nextId());
+
+        log.info("Product snapshot restored. path={}, rows={}, bytes={}, elapsedMs={}",
+                path, summary.rowCount(), summary.bytes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * product.id IDENTITY 가 다음에 발급할 값 (H2 INFORMATION_SCHEMA, 조회 불가 시 0 → commit 에서 maxId + 1 로 보정)
+     */
+    private long identityNextValue() {
+        try {
+            Long next = jdbcTemplate.query(
+                    "SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS"
+                            + " WHERE TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = 'PRODUCT' AND UPPER(COLUMN_NAME) = 'ID'",
+                    rs -> rs.next() ? rs.getObject(1, Long.class) : null);
+            return next != null ? next : 0L;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read product identity, falling back to maxId + 1", e);
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- V1: product 테이블 (Product 엔티티 매핑과 동일하게 유지)
+CREATE TABLE IF NOT EXISTS product (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    category VARCHAR(50)  NOT NULL,
+    name     VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_category ON product (category);
@@ -0,0 +1,6 @@
+-- V2: 목록 조회 정렬/필터 조합별 복합 인덱스 (Product @Table indexes 와 동일하게 유지)
+DROP INDEX IF EXISTS idx_product_category;
+
+CREATE INDEX IF NOT EXISTS idx_product_category_id ON product (category, id);
+CREATE INDEX IF NOT EXISTS idx_product_category_name ON product (category, name, id);
+CREATE INDEX IF NOT EXISTS idx_product_name ON product (name, id);
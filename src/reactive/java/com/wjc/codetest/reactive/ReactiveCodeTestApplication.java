@@ -0,0 +1,53 @@
+package com.wjc.codetest.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerInitializedEvent;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * ReactiveCodeTestApplication
+ *
+ * [WebFlux + R2DBC 기반 /products API variant]
+ *
+ * - 별도 소스셋(src/reactive)과 classpath / jar 로 분리 (gradle reactiveBootJar)
+ *   · WebFlux / R2DBC / Netty 만 포함하고 servlet(Tomcat) / JPA 는 포함하지 않음
+ *   · 요청/응답 DTO, ErrorCode 등 공통 클래스는 main 소스셋 출력을 그대로 사용
+ * - component scan 범위는 이 패키지(com.wjc.codetest.reactive)로 한정
+ * - 기동 시 실제 웹 서버 타입을 확인하여 Netty 가 아니면 기동 실패 처리
+ *   (event-loop 비교 벤치마크가 다른 서버를 측정하지 않도록)
+ *
+ * 실행: gradle bootRunReactive
+ */
+@Slf4j
+@SpringBootApplication
+public class ReactiveCodeTestApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveCodeTestApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+
+    @Bean
+    public ApplicationListener<ReactiveWebServerInitializedEvent> webServerTypeCheck() {
+        return event -> {
+            WebServer webServer = event.getWebServer();
+            if (!(webServer instanceof NettyWebServer)) {
+                throw new IllegalStateException(
+                        "Reactive variant must run on Netty but started " + webServer.getClass().getName());
+            }
+            log.info("Reactive web server started. server={}, port={}, ioWorkerCount={}",
+                    webServer.getClass().getSimpleName(),
+                    webServer.getPort(),
+                    System.getProperty("reactor.netty.ioWorkerCount", "default"));
+        };
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.wjc.codetest.reactive.global.exception;
+
+import com.wjc.codetest.global.exception.BusinessException;
+import com.wjc.codetest.global.exception.ErrorCode;
+import com.wjc.codetest.global.exception.GlobalExceptionHandler;
+import com.wjc.codetest.global.response.ApiErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ReactiveGlobalExceptionHandler
+ *
+ * [reactive variant 전역 예외 처리]
+ *
+ * - servlet GlobalExceptionHandler 와 동일한 ApiErrorResponse / ErrorCode 매핑
+ * - WebFlux 는 바인딩/검증 실패를 WebExchangeBindException 으로 전달하므로 별도 처리
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveGlobalExceptionHandler {
+
+    /**
+     * 비즈니스 예외 처리 (ErrorCode 보유)
+     */
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiErrorResponse> handleBusinessException(
+            BusinessException e
+    ) {
+        ErrorCode errorCode = e.getErrorCode();
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiErrorResponse.of(errorCode));
+    }
+
+    /**
+     * RequestBody / ModelAttribute Validation 실패 (400 Bad Request)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiErrorResponse> handleWebExchangeBind(
+            WebExchangeBindException e
+    ) {
+        Map<String, String> errors = e.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .collect(Collectors.toMap(
+                        FieldError::getField,
+                        GlobalExceptionHandler::messageOf,
+                        (a, b) -> a
+                ));
+
+        ErrorCode errorCode = ErrorCode.VALIDATION_ERROR;
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiErrorResponse.of(errorCode, errors));
+    }
+
+    /**
+     * 요청 해석 실패
+     * - RequestParam / PathVariable 타입 변환 실패(예: 알 수 없는 fields 값)는
+     *   servlet 과 같이 VALIDATION_ERROR + 파라미터별 메시지로 응답
+     * - 그 외(본문 파싱 실패 등)는 INVALID_REQUEST
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiErrorResponse> handleServerWebInput(
+            ServerWebInputException e
+    ) {
+        MethodParameter parameter = e.getMethodParameter();
+        if (e.getCause() instanceof TypeMismatchException && parameter != null) {
+            Map<String, String> errors = Map.of(
+                    String.valueOf(parameter.getParameterName()),
+                    GlobalExceptionHandler.INVALID_VALUE_MESSAGE
+            );
+
+            ErrorCode errorCode = ErrorCode.VALIDATION_ERROR;
+
+            return ResponseEntity
+                    .status(errorCode.getHttpStatus())
+                    .body(ApiErrorResponse.of(errorCode, errors));
+        }
+
+        ErrorCode errorCode = ErrorCode.INVALID_REQUEST;
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiErrorResponse.of(errorCode));
+    }
+
+    /**
+     * 예상하지 못한 예외 (500)
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiErrorResponse> handleException(Exception e) {
+
+        log.error("Unexpected exception occurred", e);
+
+        ErrorCode errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiErrorResponse.of(errorCode));
+    }
+}
@@ -0,0 +1,121 @@
+package com.wjc.codetest.reactive.product.controller;
+
+import com.wjc.codetest.global.response.ApiResponse;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.ProductListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.reactive.product.service.ReactiveProductService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReactiveProductController
+ *
+ * [상품 API reactive variant]
+ *
+ * - URI / 요청 DTO / ApiResponse 응답 포맷은 servlet ProductController 와 동일
+ * - 추가 엔드포인트 (NDJSON 스트리밍, backpressure 적용)
+ *   · GET /products/stream : 목록 조회 결과를 건수 조회 없이 행 단위로 전달
+ *   · GET /products/export : 카테고리(선택) 전체 내보내기
+ */
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    /**
+     * 상품 단건 조회
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<ProductResponse>>> getProduct(
+            @PathVariable Long id,
+            @RequestParam(required = false) ProductFields fields
+    ) {
+        return reactiveProductService.getById(id, fields != null ? fields : ProductFields.ALL)
+                .map(product -> ResponseEntity.ok(ApiResponse.success("상품 조회 성공", product)));
+    }
+
+    /**
+     * 상품 생성
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<ProductResponse>>> createProduct(
+            @Valid @RequestBody CreateProductRequest request
+    ) {
+        return reactiveProductService.create(request)
+                .map(product -> ResponseEntity.ok(ApiResponse.success("상품 생성 성공", product)));
+    }
+
+    /**
+     * 상품 수정
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<ProductResponse>>> updateProduct(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateProductRequest request
+    ) {
+        return reactiveProductService.update(id, request)
+                .map(product -> ResponseEntity.ok(ApiResponse.success("상품 수정 성공", product)));
+    }
+
+    /**
+     * 상품 삭제
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable Long id) {
+        return reactiveProductService.deleteById(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * 상품 목록 조회
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<ProductListResponse>>> getProductListByCategory(
+            @Valid @ModelAttribute GetProductListRequest request
+    ) {
+        return reactiveProductService.getList(request)
+                .map(list -> ResponseEntity.ok(ApiResponse.success("상품 목록 조회 성공", list)));
+    }
+
+    /**
+     * 상품 목록 조회 (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductResponse> streamProductList(
+            @Valid @ModelAttribute GetProductListRequest request
+    ) {
+        return reactiveProductService.streamList(request);
+    }
+
+    /**
+     * 상품 내보내기 (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductResponse> exportProducts(
+            @RequestParam(required = false) String category
+    ) {
+        return reactiveProductService.export(category);
+    }
+
+    /**
+     * 상품 카테고리 목록 조회
+     */
+    @GetMapping("/categories")
+    public Mono<ResponseEntity<ApiResponse<List<String>>>> getProductCategories() {
+        return reactiveProductService.getUniqueCategories()
+                .map(categories -> ResponseEntity.ok(ApiResponse.success("상품 카테고리 조회 성공", categories)));
+    }
+}
@@ -0,0 +1,211 @@
+package com.wjc.codetest.reactive.product.service;
+
+import com.wjc.codetest.product.exception.ProductNotFoundException;
+import com.wjc.codetest.product.exception.UnsupportedProductQueryException;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductField;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.ProductListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ReactiveProductService
+ *
+ * [R2DBC(DatabaseClient) 기반 상품 조회/변경]
+ *
+ * - servlet 버전의 ProductService / ProductQueryService 와 같은 의미를 non-blocking 으로 제공
+ * - 목록 조회의 정렬/필터 조합 및 거절 기준은 ProductQueryService.getList 와 동일
+ * - Entity 를 거치지 않고 선택된 컬럼(?fields=)만 조회해 row 를 바로 ProductResponse 로 매핑
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveProductService {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<ProductResponse> getById(Long productId, ProductFields fields) {
+        return databaseClient.sql(select(fields) + " WHERE id = :id")
+                .bind("id", productId)
+                .map(row -> toResponse(row, fields))
+                .one()
+                .switchIfEmpty(Mono.error(ProductNotFoundException.INSTANCE));
+    }
+
+    public Mono<ProductResponse> create(CreateProductRequest dto) {
+        return databaseClient.sql("INSERT INTO product (category, name) VALUES (:category, :name)")
+                .bind("category", dto.getCategory())
+                .bind("name", dto.getName())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> new ProductResponse(id, dto.getCategory(), dto.getName()))
+                .doOnNext(product -> log.info("Product created. id={}, category={}, name={}",
+                        product.getId(), product.getCategory(), product.getName()));
+    }
+
+    public Mono<ProductResponse> update(Long productId, UpdateProductRequest dto) {
+        return databaseClient.sql("UPDATE product SET category = :category, name = :name WHERE id = :id")
+                .bind("category", dto.getCategory())
+                .bind("name", dto.getName())
+                .bind("id", productId)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(ProductNotFoundException.INSTANCE)
+                        : Mono.just(new ProductResponse(productId, dto.getCategory(), dto.getName())));
+    }
+
+    public Mono<Void> deleteById(Long productId) {
+        return databaseClient.sql("DELETE FROM product WHERE id = :id")
+                .bind("id", productId)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(ProductNotFoundException.INSTANCE)
+                        : Mono.empty());
+    }
+
+    /**
+     * 상품 목록 조회 (ApiResponse 응답용: 페이지 + 전체 건수)
+     */
+    public Mono<ProductListResponse> getList(GetProductListRequest request) {
+        PageRequest pageRequest = PageRequest.of(
+                request.getPage(),
+                request.getSize(),
+                request.getSort().getSort()
+        );
+
+        return Mono.zip(streamList(request).collectList(), count(request))
+                .map(tuple -> ProductListResponse.ofResponses(
+                        new PageImpl<>(tuple.getT1(), pageRequest, tuple.getT2())
+                ));
+    }
+
+    /**
+     * 상품 목록 조회 (스트리밍: 건수 조회 없이 페이지 내용만 순서대로 전달)
+     */
+    public Flux<ProductResponse> streamList(GetProductListRequest request) {
+        return Flux.defer(() -> {
+            Condition condition = Condition.of(request);
+            // page * size 의 int overflow 방지 (PageRequest.getOffset 은 long)
+            long offset = PageRequest.of(request.getPage(), request.getSize()).getOffset();
+
+            ProductFields fields = request.getFields();
+
+            return condition.bind(databaseClient.sql(
+                            select(fields) + condition.where()
+                                    + orderBy(request.getSort().getSort())
+                                    + " LIMIT " + request.getSize() + " OFFSET " + offset))
+                    .map(row -> toResponse(row, fields))
+                    .all();
+        });
+    }
+
+    /**
+     * 카테고리(선택) 단위 전체 내보내기 - id 오름차순, 구독자의 요청량(backpressure)에 맞춰 전달
+     */
+    public Flux<ProductResponse> export(String category) {
+        boolean hasCategory = category != null && !category.isBlank();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                select(ProductFields.ALL) + (hasCategory ? " WHERE category = :category" : "") + " ORDER BY id ASC");
+
+        return (hasCategory ? spec.bind("category", category) : spec)
+                .map(row -> toResponse(row, ProductFields.ALL))
+                .all();
+    }
+
+    public Mono<List<String>> getUniqueCategories() {
+        return databaseClient.sql("SELECT DISTINCT category FROM product")
+                .map(row -> row.get("category", String.class))
+                .all()
+                .collectList();
+    }
+
+    private Mono<Long> count(GetProductListRequest request) {
+        return Mono.defer(() -> {
+            Condition condition = Condition.of(request);
+
+            return condition.bind(databaseClient.sql("SELECT count(id) AS total FROM product" + condition.where()))
+                    .map(row -> row.get("total", Long.class))
+                    .one();
+        });
+    }
+
+    private static String orderBy(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + " " + order.getDirection().name())
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private static String select(ProductFields fields) {
+        return "SELECT " + fields.sqlColumns() + " FROM product";
+    }
+
+    private static ProductResponse toResponse(Readable row, ProductFields fields) {
+        int id = fields.positionOf(ProductField.ID);
+        int category = fields.positionOf(ProductField.CATEGORY);
+        int name = fields.positionOf(ProductField.NAME);
+
+        return new ProductResponse(
+                id < 0 ? null : row.get(id, Long.class),
+                category < 0 ? null : row.get(category, String.class),
+                name < 0 ? null : row.get(name, String.class),
+                fields
+        );
+    }
+
+    /**
+     * 목록 조회 WHERE 절 + 바인딩 값
+     * - ProductQueryService.getList 와 동일하게 이름 정렬 + id 범위 조합은 거절
+     */
+    private record Condition(String where, Map<String, Object> params) {
+
+        static Condition of(GetProductListRequest request) {
+            if (request.hasIdRange() && !request.getSort().isIdOrdered()) {
+                throw new UnsupportedProductQueryException();
+            }
+
+            List<String> predicates = new ArrayList<>();
+            Map<String, Object> params = new LinkedHashMap<>();
+
+            if (request.hasCategory()) {
+                predicates.add("category = :category");
+                params.put("category", request.getCategory());
+            }
+            if (request.hasIdRange()) {
+                predicates.add("id BETWEEN :minId AND :maxId");
+                params.put("minId", request.getMinId() != null ? request.getMinId() : 1L);
+                params.put("maxId", request.getMaxId() != null ? request.getMaxId() : Long.MAX_VALUE);
+            }
+
+            String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+            return new Condition(where, params);
+        }
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                spec = spec.bind(param.getKey(), param.getValue());
+            }
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.wjc.codetest.reactive.product.controller;
+
+import com.wjc.codetest.global.exception.ErrorCode;
+import com.wjc.codetest.global.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트마다 고유 카테고리로 상품을 생성하여 서로의 데이터에 영향을 받지 않도록 함
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test?options=MODE=MySQL;DB_CLOSE_DELAY=-1"
+)
+@ActiveProfiles("reactive")
+class ReactiveProductControllerTest {
+
+    private static final long UNKNOWN_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void listsProductsOfCategoryWithTotalCount() {
+        create("list", "a");
+        create("list", "b");
+        create("list", "c");
+
+        webTestClient.get()
+                .uri("/products?category=list&sort=ID_ASC&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.totalElements").isEqualTo(3)
+                .jsonPath("$.data.totalPages").isEqualTo(2)
+                .jsonPath("$.data.products.length()").isEqualTo(2)
+                .jsonPath("$.data.products[0].name").isEqualTo("a")
+                .jsonPath("$.data.products[1].name").isEqualTo("b");
+    }
+
+    @Test
+    void rejectsNameSortWithIdRange() {
+        webTestClient.get()
+                .uri("/products?sort=NAME_ASC&minId=1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(ErrorCode.UNSUPPORTED_PRODUCT_QUERY.getCode());
+
+        webTestClient.get()
+                .uri("/products/stream?sort=NAME_DESC&maxId=10")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(ErrorCode.UNSUPPORTED_PRODUCT_QUERY.getCode());
+    }
+
+    @Test
+    void returnsNotFoundForUnknownId() {
+        webTestClient.get()
+                .uri("/products/{id}", UNKNOWN_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(ErrorCode.PRODUCT_NOT_FOUND.getCode());
+
+        webTestClient.put()
+                .uri("/products/{id}", UNKNOWN_ID)
+                .bodyValue(Map.of("category", "food", "name", "apple"))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(ErrorCode.PRODUCT_NOT_FOUND.getCode());
+
+        webTestClient.delete()
+                .uri("/products/{id}", UNKNOWN_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(ErrorCode.PRODUCT_NOT_FOUND.getCode());
+    }
+
+    @Test
+    void rejectsUnknownFieldsWithSameErrorCode() {
+        for (String uri : new String[]{"/products/1?fields=id,price", "/products?fields=id,price"}) {
+            webTestClient.get()
+                    .uri(uri)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.code").isEqualTo(ErrorCode.VALIDATION_ERROR.getCode())
+                    .jsonPath("$.errors.fields").isEqualTo(GlobalExceptionHandler.INVALID_VALUE_MESSAGE);
+        }
+    }
+
+    @Test
+    void exportsCategoryAsNdjsonInIdOrder() {
+        long first = create("export", "first");
+        long second = create("export", "second");
+        create("other", "skipped");
+
+        String body = webTestClient.get()
+                .uri("/products/export?category=export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines().toList()).containsExactly(
+                "{\"id\":" + first + ",\"category\":\"export\",\"name\":\"first\"}",
+                "{\"id\":" + second + ",\"category\":\"export\",\"name\":\"second\"}"
+        );
+    }
+
+    @Test
+    void streamsSelectedFieldsOnly() {
+        create("stream", "a");
+        create("stream", "b");
+
+        String body = webTestClient.get()
+                .uri("/products/stream?category=stream&sort=ID_ASC&fields=name")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines().toList()).containsExactly("{\"name\":\"a\"}", "{\"name\":\"b\"}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private long create(String category, String name) {
+        Map<String, Object> response = webTestClient.post()
+                .uri("/products")
+                .bodyValue(Map.of("category", category, "name", name))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(response).isNotNull();
+        Map<String, Object> data = (Map<String, Object>) response.get("data");
+        return ((Number) data.get("id")).longValue();
+    }
+}
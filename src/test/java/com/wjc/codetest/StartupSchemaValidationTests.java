@@ -0,0 +1,32 @@
+package com.wjc.codetest;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * startup 프로파일의 스키마 스크립트(db/schema)와 Product 매핑이 어긋나면 실패
+ * - 스크립트로 스키마 생성 후 Hibernate validate 로 비교
+ * - validate 는 DB 메타데이터를 읽어야 하므로 allow_jdbc_metadata_access 만 허용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:startup-schema-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true"
+})
+@ActiveProfiles("startup")
+class StartupSchemaValidationTests {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void schemaScriptsMatchEntityMapping() {
+        // deferred bootstrap 이므로 EntityManagerFactory 초기화(= validate) 완료까지 대기
+        assertThat(entityManagerFactory.getMetamodel().getEntities()).isNotEmpty();
+    }
+}
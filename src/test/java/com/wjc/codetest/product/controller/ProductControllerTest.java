@@ -0,0 +1,48 @@
+package com.wjc.codetest.product.controller;
+
+import com.wjc.codetest.global.exception.ErrorCode;
+import com.wjc.codetest.global.exception.GlobalExceptionHandler;
+import com.wjc.codetest.product.service.ProductListCache;
+import com.wjc.codetest.product.service.ProductQueryService;
+import com.wjc.codetest.product.service.ProductService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 알 수 없는 fields 값은 단건 / 다건 / 목록 조회 모두 같은 에러 코드로 응답
+ */
+@WebMvcTest(ProductController.class)
+class ProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private ProductQueryService productQueryService;
+
+    @MockitoBean
+    private ProductListCache productListCache;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/products/1", "/products/batch?ids=1,2", "/products"})
+    void rejectsUnknownFieldsWithSameErrorCode(String uri) throws Exception {
+        mockMvc.perform(get(uri).param("fields", "id,price"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.getCode()))
+                .andExpect(jsonPath("$.errors.fields").value(GlobalExceptionHandler.INVALID_VALUE_MESSAGE));
+
+        verifyNoInteractions(productQueryService, productListCache);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wjc.codetest.product.model.request;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GetProductListRequestTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void rejectsReversedIdRange() {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setMinId(20L);
+        request.setMaxId(10L);
+
+        assertThat(validator.validate(request))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("idRangeOrdered");
+    }
+
+    @Test
+    void acceptsSingleIdOrOpenRange() {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setMinId(10L);
+        request.setMaxId(10L);
+        assertThat(validator.validate(request)).isEmpty();
+
+        request.setMaxId(null);
+        assertThat(validator.validate(request)).isEmpty();
+    }
+
+    @Test
+    void rejectsPageBeyondIntOffset() {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setSize(GetProductListRequest.MAX_SIZE);
+        request.setPage(GetProductListRequest.MAX_PAGE);
+        assertThat(validator.validate(request)).isEmpty();
+        assertThat((long) request.getPage() * request.getSize()).isLessThanOrEqualTo(Integer.MAX_VALUE);
+
+        request.setPage(GetProductListRequest.MAX_PAGE + 1);
+        assertThat(validator.validate(request))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("page");
+    }
+}
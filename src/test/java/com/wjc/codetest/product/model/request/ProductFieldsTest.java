@@ -0,0 +1,21 @@
+package com.wjc.codetest.product.model.request;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductFieldsTest {
+
+    @Test
+    void rejectsUnknownField() {
+        assertThatThrownBy(() -> ProductFields.of("id,price"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reusesCanonicalInstanceRegardlessOfOrder() {
+        assertThat(ProductFields.of("name, id")).isSameAs(ProductFields.of("id,name"));
+        assertThat(ProductFields.of(" ")).isSameAs(ProductFields.ALL);
+    }
+}
@@ -0,0 +1,28 @@
+package com.wjc.codetest.product.model.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wjc.codetest.product.model.request.ProductFields;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesAllFieldsByDefault() throws Exception {
+        ProductResponse response = new ProductResponse(1L, "food", "apple");
+
+        assertThat(objectMapper.writeValueAsString(response))
+                .isEqualTo("{\"id\":1,\"category\":\"food\",\"name\":\"apple\"}");
+    }
+
+    @Test
+    void writesOnlySelectedFields() throws Exception {
+        ProductResponse response = new ProductResponse(1L, null, "apple", ProductFields.of("name, id"));
+
+        assertThat(objectMapper.writeValueAsString(response))
+                .isEqualTo("{\"id\":1,\"name\":\"apple\"}");
+    }
+}
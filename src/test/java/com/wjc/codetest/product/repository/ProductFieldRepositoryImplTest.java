@@ -0,0 +1,138 @@
+package com.wjc.codetest.product.repository;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 선택된 필드만 SELECT 절에 포함되는지 Hibernate 가 실행한 SQL(StatementInspector)로 확인
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.wjc.codetest.product.repository.ProductFieldRepositoryImplTest$SqlCapture")
+class ProductFieldRepositoryImplTest {
+
+    private static final ProductFields NAME_ONLY = ProductFields.of("name");
+    private static final ProductFields ID_AND_NAME = ProductFields.of("id,name");
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product apple;
+    private Product banana;
+    private Product novel;
+
+    @BeforeEach
+    void setUp() {
+        apple = testEntityManager.persist(new Product("food", "apple"));
+        banana = testEntityManager.persist(new Product("food", "banana"));
+        novel = testEntityManager.persist(new Product("book", "novel"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        SqlCapture.CAPTURED.clear();
+    }
+
+    @Test
+    void findsSelectedFieldsById() {
+        ProductResponse response = productRepository.findFieldsById(apple.getId(), NAME_ONLY).orElseThrow();
+
+        assertThat(response.getId()).isNull();
+        assertThat(response.getCategory()).isNull();
+        assertThat(response.getName()).isEqualTo("apple");
+        assertThat(response.getFields()).isSameAs(NAME_ONLY);
+        assertThat(selectWidths()).containsExactly(1);
+
+        assertThat(productRepository.findFieldsById(Long.MAX_VALUE, NAME_ONLY)).isEmpty();
+    }
+
+    @Test
+    void findsSelectedFieldsByIds() {
+        List<ProductResponse> responses = productRepository.findFieldsByIdIn(
+                List.of(apple.getId(), novel.getId(), Long.MAX_VALUE), ID_AND_NAME);
+
+        assertThat(responses)
+                .extracting(ProductResponse::getId, ProductResponse::getCategory, ProductResponse::getName)
+                .containsExactlyInAnyOrder(
+                        tuple(apple.getId(), null, "apple"),
+                        tuple(novel.getId(), null, "novel"));
+        assertThat(selectWidths()).containsExactly(2);
+    }
+
+    @Test
+    void skipsQueryForEmptyIds() {
+        assertThat(productRepository.findFieldsByIdIn(List.of(), ID_AND_NAME)).isEmpty();
+        assertThat(SqlCapture.CAPTURED).isEmpty();
+    }
+
+    @Test
+    void findsSelectedFieldsPage() {
+        Page<ProductResponse> page = productRepository.findFieldsPage(
+                "food", apple.getId(), null, NAME_ONLY,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "id")));
+
+        assertThat(page.getContent())
+                .extracting(ProductResponse::getId, ProductResponse::getCategory, ProductResponse::getName)
+                .containsExactly(tuple(null, null, "apple"));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+
+        // content 조회 (name 1개 컬럼) + count 조회
+        assertThat(SqlCapture.CAPTURED).hasSize(2);
+        assertThat(selectWidths().get(0)).isEqualTo(1);
+        assertThat(SqlCapture.CAPTURED.get(1).toLowerCase(Locale.ROOT)).contains("count(");
+    }
+
+    @Test
+    void findsIdRangePageWithAllFields() {
+        Page<ProductResponse> page = productRepository.findFieldsPage(
+                null, banana.getId(), novel.getId(), ProductFields.ALL,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getContent())
+                .extracting(ProductResponse::getId, ProductResponse::getCategory, ProductResponse::getName)
+                .containsExactly(
+                        tuple(novel.getId(), "book", "novel"),
+                        tuple(banana.getId(), "food", "banana"));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(selectWidths()).containsExactly(3);
+    }
+
+    /* 수집한 SELECT 문의 컬럼 수 (count 조회 제외) */
+    private static List<Integer> selectWidths() {
+        return SqlCapture.CAPTURED.stream()
+                .map(sql -> sql.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select ") && !sql.contains("count("))
+                .map(sql -> sql.substring("select ".length(), sql.indexOf(" from ")).split(",").length)
+                .toList();
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductIdFilterTest {
+
+    private ProductRepository productRepository;
+    private ProductIdFilter productIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productIdFilter = new ProductIdFilter(productRepository);
+    }
+
+    @Test
+    void passesEverythingThroughBeforeLoad() {
+        assertThat(productIdFilter.mightContain(42L)).isTrue();
+    }
+
+    @Test
+    void rejectsIdsNotLoaded() {
+        when(productRepository.streamAllIds()).thenReturn(Stream.of(1L, 2L, 100_000L));
+
+        productIdFilter.load();
+
+        assertThat(productIdFilter.mightContain(1L)).isTrue();
+        assertThat(productIdFilter.mightContain(100_000L)).isTrue();
+        assertThat(productIdFilter.mightContain(3L)).isFalse();
+        assertThat(productIdFilter.mightContain(5_000_000L)).isFalse();
+        assertThat(productIdFilter.mightContain(-1L)).isFalse();
+    }
+
+    @Test
+    void tracksAddAndRemove() {
+        when(productRepository.streamAllIds()).thenReturn(Stream.empty());
+        productIdFilter.load();
+
+        productIdFilter.add(7L);
+        assertThat(productIdFilter.mightContain(7L)).isTrue();
+
+        productIdFilter.removeAfterCommit(7L);
+        assertThat(productIdFilter.mightContain(7L)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductListCacheTest {
+
+    @Test
+    void evictsOnlyWrittenCategoryAndUnfilteredPages() {
+        ProductListCache cache = new ProductListCache(1024, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        ProductListCache.Key food = ProductListCache.Key.of(request("food"));
+        ProductListCache.Key book = ProductListCache.Key.of(request("book"));
+        ProductListCache.Key all = ProductListCache.Key.of(request(null));
+        for (ProductListCache.Key key : new ProductListCache.Key[]{food, book, all}) {
+            cache.getOrLoad(key, () -> load(loads));
+        }
+
+        cache.evictAfterCommit("food");
+
+        for (ProductListCache.Key key : new ProductListCache.Key[]{food, book, all}) {
+            cache.getOrLoad(key, () -> load(loads));
+        }
+        assertThat(loads.get()).isEqualTo(3 + 2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverBudget() {
+        ProductListCache cache = new ProductListCache(20, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        ProductListCache.Key first = ProductListCache.Key.of(request("a"));
+        ProductListCache.Key second = ProductListCache.Key.of(request("b"));
+        ProductListCache.Key third = ProductListCache.Key.of(request("c"));
+        cache.getOrLoad(first, () -> load(loads));
+        cache.getOrLoad(second, () -> load(loads));
+        cache.getOrLoad(first, () -> load(loads));
+        cache.getOrLoad(third, () -> load(loads));
+
+        cache.getOrLoad(first, () -> load(loads));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.getOrLoad(second, () -> load(loads));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void onlyCachesFirstPagesWithoutIdRange() {
+        ProductListCache cache = new ProductListCache(1024, 2);
+
+        GetProductListRequest deepPage = request("food");
+        deepPage.setPage(3);
+        GetProductListRequest idRange = request("food");
+        idRange.setMinId(10L);
+
+        assertThat(cache.isCacheable(request("food"))).isTrue();
+        assertThat(cache.isCacheable(deepPage)).isFalse();
+        assertThat(cache.isCacheable(idRange)).isFalse();
+    }
+
+    private static GetProductListRequest request(String category) {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setCategory(category);
+        return request;
+    }
+
+    private static byte[] load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new byte[10];
+    }
+}
@@ -0,0 +1,48 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.exception.UnsupportedProductQueryException;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductSort;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ProductQueryServiceTest {
+
+    private ProductRepository productRepository;
+    private ProductQueryService productQueryService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productQueryService = new ProductQueryService(productRepository, new ProductIdFilter(productRepository));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ProductSort.class, names = {"NAME_ASC", "NAME_DESC"})
+    void rejectsNameSortWithIdRange(ProductSort sort) {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setSort(sort);
+        request.setMinId(10L);
+
+        assertThatThrownBy(() -> productQueryService.getList(request))
+                .isInstanceOf(UnsupportedProductQueryException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void rejectsNameSortWithUpperBoundOnly() {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setSort(ProductSort.NAME_ASC);
+        request.setMaxId(10L);
+
+        assertThatThrownBy(() -> productQueryService.getList(request))
+                .isInstanceOf(UnsupportedProductQueryException.class);
+    }
+}
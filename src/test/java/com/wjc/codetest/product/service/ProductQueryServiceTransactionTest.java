@@ -0,0 +1,99 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.exception.ProductNotFoundException;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.ProductFields;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트랜잭션 프록시를 적용한 상태에서, id 필터로 걸러진 조회가
+ * 트랜잭션 매니저(커넥션 획득)와 Repository 에 도달하지 않는지 확인
+ */
+@SpringJUnitConfig
+class ProductQueryServiceTransactionTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+            when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+            return transactionManager;
+        }
+
+        @Bean
+        ProductRepository productRepository() {
+            return mock(ProductRepository.class);
+        }
+
+        @Bean
+        ProductIdFilter productIdFilter(ProductRepository productRepository) {
+            return new ProductIdFilter(productRepository);
+        }
+
+        @Bean
+        ProductQueryService productQueryService(ProductRepository productRepository, ProductIdFilter productIdFilter) {
+            return new ProductQueryService(productRepository, productIdFilter);
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIdFilter productIdFilter;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.streamAllIds()).thenReturn(Stream.of(1L, 2L));
+        productIdFilter.load();
+        clearInvocations(transactionManager, productRepository);
+    }
+
+    @Test
+    void filteredMissNeverOpensTransaction() {
+        assertThatThrownBy(() -> productQueryService.getById(999L))
+                .isSameAs(ProductNotFoundException.INSTANCE);
+        assertThatThrownBy(() -> productQueryService.getById(999L, ProductFields.ALL))
+                .isSameAs(ProductNotFoundException.INSTANCE);
+        assertThat(productQueryService.getAllByIds(List.of(998L, 999L), ProductFields.ALL)).isEmpty();
+
+        verifyNoInteractions(transactionManager, productRepository);
+    }
+
+    @Test
+    void transactionalMethodsAreProxied() {
+        productQueryService.getList(new GetProductListRequest());
+
+        verify(transactionManager).getTransaction(any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.wjc.codetest.product.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWrittenRowsInOrder() throws Exception {
+        Path path = dir.resolve("product.snapshot");
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(1, "food", "apple");
+            writer.write(3, "book", "자바의 정석");
+            writer.write(7, "food", "");
+            writer.commit();
+        }
+
+        List<String> rows = new ArrayList<>();
+        ProductSnapshotFile.Summary summary = ProductSnapshotFile.read(path,
+                (id, category, name) -> rows.add(id + "|" + category + "|" + name));
+
+        assertThat(rows).containsExactly("1|food|apple", "3|book|자바의 정석", "7|food|");
+        assertThat(summary.rowCount()).isEqualTo(3);
+        assertThat(summary.maxId()).isEqualTo(7);
+        assertThat(summary.nextId()).isEqualTo(8);
+        assertThat(summary.bytes()).isEqualTo(Files.size(path));
+    }
+
+    @Test
+    void storesIdentityHighWaterMarkAboveMaxId() throws Exception {
+        Path path = dir.resolve("product.snapshot");
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(1, "food", "apple");
+            writer.commit(20);
+        }
+        assertThat(ProductSnapshotFile.read(path, (id, category, name) -> {
+        }).nextId()).isEqualTo(20);
+
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(5, "food", "apple");
+            writer.commit(3);
+        }
+        assertThat(ProductSnapshotFile.read(path, (id, category, name) -> {
+        }).nextId()).isEqualTo(6);
+    }
+
+    @Test
+    void keepsPreviousSnapshotWhenNotCommitted() throws Exception {
+        Path path = dir.resolve("product.snapshot");
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(1, "food", "apple");
+            writer.commit();
+        }
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(2, "book", "novel");
+        }
+
+        List<Long> ids = new ArrayList<>();
+        ProductSnapshotFile.read(path, (id, category, name) -> ids.add(id));
+
+        assertThat(ids).containsExactly(1L);
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wjc.codetest.product.snapshot;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.repository.ProductRepository;
+import com.wjc.codetest.product.service.ProductIdFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷: id 1, 2, 5 (6 ~ 9 는 종료 전에 삭제되어 IDENTITY 다음 값은 10)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "product.snapshot.interval=0"
+})
+@ActiveProfiles("snapshot")
+class ProductSnapshotLifecycleTest {
+
+    private static final long SNAPSHOT_NEXT_ID = 10L;
+
+    @Autowired
+    private ProductSnapshotLifecycle productSnapshotLifecycle;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIdFilter productIdFilter;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) throws IOException {
+        Path dir = Files.createTempDirectory("product-snapshot-test");
+        Path path = dir.resolve("product.snapshot");
+        // 종료 시 저장(stop)은 shutdown hook 에서 실행되고, deleteOnExit 는 그 이후에 역순으로 삭제
+        dir.toFile().deleteOnExit();
+        path.toFile().deleteOnExit();
+
+        try (ProductSnapshotFile.Writer writer = ProductSnapshotFile.writer(path)) {
+            writer.write(1, "food", "apple");
+            writer.write(2, "food", "banana");
+            writer.write(5, "book", "novel");
+            writer.commit(SNAPSHOT_NEXT_ID);
+        }
+        registry.add("product.snapshot.path", path::toString);
+    }
+
+    @Test
+    void restoresSnapshotIntoEmptyTableBeforeReady() {
+        assertThat(productRepository.findAllById(List.of(1L, 2L, 3L, 4L, 5L)))
+                .extracting(Product::getName)
+                .containsExactlyInAnyOrder("apple", "banana", "novel");
+        assertThat(productIdFilter.mightContain(5L)).isTrue();
+        assertThat(productIdFilter.mightContain(3L)).isFalse();
+    }
+
+    @Test
+    void skipsRestoreWhenTableIsNotEmpty() throws Exception {
+        long before = productRepository.count();
+
+        productSnapshotLifecycle.restore();
+
+        assertThat(productRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void continuesIdentityFromSavedHighWaterMark() {
+        Product created = productRepository.save(new Product("food", "cherry"));
+        try {
+            assertThat(created.getId()).isEqualTo(SNAPSHOT_NEXT_ID);
+        } finally {
+            productRepository.delete(created);
+        }
+    }
+
+    @Test
+    void savesIdentityHighWaterMark() throws Exception {
+        ProductSnapshotFile.Summary summary = productSnapshotLifecycle.save();
+
+        assertThat(summary.rowCount()).isEqualTo(productRepository.count());
+        assertThat(summary.maxId()).isEqualTo(5L);
+        assertThat(summary.nextId()).isGreaterThanOrEqualTo(SNAPSHOT_NEXT_ID);
+    }
+}